@@ -1,21 +1,18 @@
 package com.bynature.adapters.in.web.auth;
 
 import com.bynature.application.service.AppClientSpringService;
+import com.bynature.application.service.RefreshTokenService;
 import com.bynature.application.service.TokenService;
-import com.bynature.domain.model.AppClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
 
 @RestController
 @RequestMapping("/auth/client")
@@ -25,44 +22,26 @@ public class AppClientAuthController {
 
     private final AppClientSpringService appClientService;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     public AppClientAuthController(
             AppClientSpringService appClientService,
             TokenService tokenService,
-            PasswordEncoder passwordEncoder) {
+            RefreshTokenService refreshTokenService) {
         this.appClientService = appClientService;
         this.tokenService = tokenService;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/token")
     public ResponseEntity<TokenResponse> getToken(@RequestBody ClientAuthRequest request) {
-        List<AppClient> clients = appClientService.findByAppClientId(request.clientId());
-
-        if (clients.isEmpty()) {
-            logger.debug("No client found with ID: {}", request.clientId());
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        return clients.stream()
-                .filter(client -> {
-                    boolean matches = passwordEncoder.matches(request.clientSecret(), client.getAppClientSecret());
-                    logger.info("Client {} authentication: active={}, passwordMatches={}",
-                            client.getAppClientId(), client.isActive(), matches);
-                    return client.isActive() && matches;
-                })
-                .map(client -> {
-                    String accessToken = tokenService.generateAccessToken(client.getAppClientId(), "api");
-                    String refreshToken = tokenService.generateRefreshToken(client.getAppClientId());
-
-                    return ResponseEntity.ok(new TokenResponse(
-                            accessToken,
-                            refreshToken,
-                            Instant.now().plus(15, ChronoUnit.MINUTES),
-                            "Bearer"));
-                }).findAny()
-                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        // BCrypt only runs the first time a secret is seen, see AppClientCredentialVerifier
+        return appClientService.authenticate(request.clientId(), request.clientSecret())
+                .map(client -> ResponseEntity.ok(toResponse(refreshTokenService.issue(client.getAppClientId()))))
+                .orElseGet(() -> {
+                    logger.debug("Client {} authentication failed", request.clientId());
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                });
     }
 
 
@@ -71,30 +50,20 @@ public class AppClientAuthController {
         try {
             var jwt = tokenService.validateAndParseToken(request.refreshToken());
 
-            if (!"refresh".equals(jwt.getClaim("type"))) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-
-            String clientId = jwt.getSubject();
-
-            return appClientService.findByAppClientId(clientId).stream()
-                    .filter(AppClient::isActive)
-                    .map(client -> {
-                        String accessToken = tokenService.generateAccessToken(client.getAppClientId(), "api");
-                        String refreshToken = tokenService.generateRefreshToken(client.getAppClientId());
-
-                        return ResponseEntity.ok(new TokenResponse(
-                                accessToken,
-                                refreshToken,
-                                Instant.now().plus(15, ChronoUnit.MINUTES),
-                                "Bearer"));
-                    }).findAny()
+            // Refresh tokens are single use: the client was active when the family started, and deactivating it
+            // revokes the family, so there is no need to read it again here
+            return refreshTokenService.refresh(jwt)
+                    .map(tokens -> ResponseEntity.ok(toResponse(tokens)))
                     .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
 
+    private static TokenResponse toResponse(RefreshTokenService.IssuedTokens tokens) {
+        return new TokenResponse(tokens.accessToken(), tokens.refreshToken(), tokens.expiresAt(), "Bearer");
+    }
+
     public record ClientAuthRequest(String clientId, String clientSecret) {}
     public record RefreshTokenRequest(String refreshToken) {}
     public record TokenResponse(String accessToken, String refreshToken, Instant expiresAt, String tokenType) {}
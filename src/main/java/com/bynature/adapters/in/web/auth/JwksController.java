@@ -0,0 +1,30 @@
+package com.bynature.adapters.in.web.auth;
+
+import com.bynature.config.security.JwkKeyStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the public token verification keys, so other services can verify our tokens without calling us.
+ */
+@RestController
+public class JwksController {
+
+    private final JwkKeyStore jwkKeyStore;
+
+    public JwksController(JwkKeyStore jwkKeyStore) {
+        this.jwkKeyStore = jwkKeyStore;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getKeys() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwkKeyStore.publicKeys().toJSONObject());
+    }
+}
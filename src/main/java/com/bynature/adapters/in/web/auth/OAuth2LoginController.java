@@ -2,12 +2,12 @@ package com.bynature.adapters.in.web.auth;
 
 import com.bynature.adapters.in.web.auth.dto.AuthResponse;
 import com.bynature.adapters.in.web.auth.dto.LoginRequest;
-import com.bynature.domain.model.User;
-import com.bynature.domain.repository.UserRepository;
+import com.bynature.config.security.AuthenticatedUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -19,23 +19,22 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/auth")
 public class OAuth2LoginController {
 
+    private static final String SCOPE_PREFIX = "SCOPE_";
+
     private final AuthenticationManager authenticationManager;
     private final JwtEncoder jwtEncoder;
-    private final UserRepository userRepository;
 
     public OAuth2LoginController(
             AuthenticationManager authenticationManager,
-            JwtEncoder jwtEncoder,
-            UserRepository userRepository) {
+            JwtEncoder jwtEncoder) {
         this.authenticationManager = authenticationManager;
         this.jwtEncoder = jwtEncoder;
-        this.userRepository = userRepository;
     }
 
     @PostMapping("/login")
@@ -49,12 +48,8 @@ public class OAuth2LoginController {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Get user details from authentication
-        String email = authentication.getName();
-
-        // Fetch user from repository to get all details
-        User user = userRepository.getUserByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found after authentication"));
+        // The authenticated principal already holds what the claims need
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
 
         // Create JWT token with complete claims
         Instant now = Instant.now();
@@ -62,19 +57,25 @@ public class OAuth2LoginController {
                 .issuer("bynature")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
-                .subject(email)
-                .claim("user_id", user.getId().toString())
-                .claim("email", user.getEmail().email())
-                .claim("role", user.getRole().toString());
+                .subject(user.email())
+                .claim("user_id", user.userId().toString())
+                .claim("email", user.email())
+                .claim("role", user.role().toString())
+                // The scopes of the user's role, read back as SCOPE_ authorities by the resource server
+                .claim("scope", authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .filter(authority -> authority.startsWith(SCOPE_PREFIX))
+                        .map(authority -> authority.substring(SCOPE_PREFIX.length()))
+                        .collect(Collectors.joining(" ")));
 
         // Add customer_id if user has a customer profile
-        if (user.getCustomer() != null) {
-            claimsBuilder.claim("customer_id", user.getCustomer().getId().toString());
+        if (user.customerId() != null) {
+            claimsBuilder.claim("customer_id", user.customerId().toString());
         }
 
         JwtClaimsSet claims = claimsBuilder.build();
         String token = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
 
-        return ResponseEntity.ok(new AuthResponse(token, user.getId(), "Login successful"));
+        return ResponseEntity.ok(new AuthResponse(token, user.userId(), "Login successful"));
     }
 }
\ No newline at end of file
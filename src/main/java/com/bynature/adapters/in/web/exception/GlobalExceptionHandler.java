@@ -1,10 +1,12 @@
 package com.bynature.adapters.in.web.exception;
 
+import com.bynature.config.security.RateLimitExceededException;
 import com.bynature.domain.exception.ByNatureValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -70,4 +72,20 @@ public class GlobalExceptionHandler extends BaseExceptionHandler {
 
         return ResponseEntity.badRequest().body(problem);
     }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimitExceeded(RateLimitExceededException ex) {
+        // Same answer as the rate limit filter gives
+        var problem = handleException(
+                ex,
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded",
+                "rate-limited",
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(problem);
+    }
 }
@@ -0,0 +1,125 @@
+package com.bynature.adapters.in.web.item;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time: quoted fields, doubled quotes, line breaks inside quotes and CRLF endings.
+ * Blank lines are skipped. A record longer than {@code maxRecordLength} characters is refused, so a broken quote cannot
+ * pull the rest of the feed into memory.
+ */
+class CsvRecordReader {
+
+    record CsvRecord(long line, List<String> fields) {
+    }
+
+    static class MalformedRecordException extends RuntimeException {
+
+        private final long line;
+
+        MalformedRecordException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        long getLine() {
+            return line;
+        }
+    }
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private long line = 1;
+    private int pending = NONE;
+
+    CsvRecordReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the input
+     */
+    CsvRecord next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == EOF) {
+            return null;
+        }
+
+        long recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new MalformedRecordException(recordLine, "Record exceeds " + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == EOF) {
+                    throw new MalformedRecordException(recordLine, "Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                fields.add(field.toString());
+                if (c != EOF) {
+                    skipLineBreak(c);
+                }
+                return new CsvRecord(recordLine, fields);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // Consumes \n, \r or \r\n
+    private void skipLineBreak(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pending = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
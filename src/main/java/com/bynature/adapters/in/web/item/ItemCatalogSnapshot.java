@@ -0,0 +1,113 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.service.ItemService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code GET /items} response, serialized once per catalog version.
+ * <p>
+ * The catalog list is served from cache and only replaced when an item changes, so a snapshot is rebuilt
+ * only when {@link ItemService#getAllItems()} hands back a different list instance.
+ */
+@Component
+public class ItemCatalogSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemCatalogSnapshot.class);
+
+    private final ItemService itemService;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public ItemCatalogSnapshot(ItemService itemService, ObjectMapper objectMapper) {
+        this.itemService = itemService;
+        this.objectMapper = objectMapper;
+    }
+
+    public Snapshot current() {
+        List<Item> items = itemService.getAllItems();
+        Snapshot current = snapshot;
+        if (current != null && current.source() == items) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || current.source() != items) {
+                current = build(items);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(List<Item> items) {
+        log.debug("Serializing item catalog snapshot of {} items", items.size());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items.stream()
+                    .map(ItemRetrievalResponse::fromDomain)
+                    .toList());
+            return new Snapshot(items, json, gzip(json), hash(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize item catalog", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Serialized catalog. Both encodings share the content hash but carry distinct strong ETags,
+     * as they are different representations of the same resource.
+     */
+    public record Snapshot(List<Item> source, byte[] json, byte[] gzip, String hash) {
+
+        public String etag(boolean gzipped) {
+            return gzipped ? "\"" + hash + "-gzip\"" : "\"" + hash + "\"";
+        }
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag(false)) || tag.equals(etag(true))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
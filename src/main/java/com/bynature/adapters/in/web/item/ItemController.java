@@ -1,29 +1,50 @@
 package com.bynature.adapters.in.web.item;
 
+import com.bynature.domain.exception.ItemValidationException;
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
+import com.bynature.domain.model.ItemSort;
+import com.bynature.domain.service.ItemSearchService;
 import com.bynature.domain.service.ItemService;
+import com.bynature.domain.service.ItemSuggestionService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/items")
 public class ItemController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ItemService itemService;
+    private final ItemSearchService itemSearchService;
+    private final ItemSuggestionService itemSuggestionService;
+    private final ItemCatalogSnapshot catalogSnapshot;
 
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService, ItemSearchService itemSearchService,
+                          ItemSuggestionService itemSuggestionService, ItemCatalogSnapshot catalogSnapshot) {
         this.itemService = itemService;
+        this.itemSearchService = itemSearchService;
+        this.itemSuggestionService = itemSuggestionService;
+        this.catalogSnapshot = catalogSnapshot;
     }
 
     @PostMapping
@@ -52,12 +73,91 @@ public class ItemController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ItemRetrievalResponse>> getAllItems() {
+    public ResponseEntity<byte[]> getAllItems(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        // The catalog is serialized once per version, requests only pick the right encoding
+        ItemCatalogSnapshot.Snapshot snapshot = catalogSnapshot.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag(gzip))
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.etag(gzip))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<ItemPageResponse> searchItems(@RequestParam(value = "minPrice", required = false) Double minPrice,
+                                                        @RequestParam(value = "maxPrice", required = false) Double maxPrice,
+                                                        @RequestParam(value = "name", required = false) String namePrefix,
+                                                        @RequestParam(value = "sort", required = false) String sort,
+                                                        @RequestParam(value = "after", required = false) String after,
+                                                        @RequestParam("limit") int limit) {
+
+        ItemSearchCriteria criteria = new ItemSearchCriteria(minPrice, maxPrice, namePrefix, parseSort(sort));
+        ItemPage page = itemService.searchItems(criteria, ItemCursorCodec.decode(after),
+                Math.clamp(limit, 1, MAX_PAGE_SIZE));
+
+        return ResponseEntity.ok(ItemPageResponse.fromDomain(page));
+    }
 
-        List<Item> items = itemService.getAllItems();
+    @GetMapping("/search")
+    public ResponseEntity<List<ItemRetrievalResponse>> searchItemsByText(@RequestParam("q") String text,
+                                                                         @RequestParam(value = "limit", defaultValue = "20") int limit) {
+
+        List<Item> items = itemSearchService.searchItems(text, Math.clamp(limit, 1, MAX_PAGE_SIZE));
 
         return ResponseEntity.ok(items.stream()
                 .map(ItemRetrievalResponse::fromDomain)
-                .collect(Collectors.toList()));
+                .toList());
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ItemSuggestionResponse>> suggestItems(@RequestParam("prefix") String prefix,
+                                                                     @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(itemSuggestionService.suggest(prefix, Math.clamp(limit, 1, MAX_PAGE_SIZE))
+                .stream()
+                .map(ItemSuggestionResponse::fromDomain)
+                .toList());
+    }
+
+    private static ItemSort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        try {
+            return ItemSort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ItemValidationException(List.of("Unknown sort: " + sort));
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("[qQ]=0(\\.0*)?");
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -14,7 +14,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
 
-@RestControllerAdvice(assignableTypes = {ItemController.class})
+@RestControllerAdvice(assignableTypes = {ItemController.class, ItemImportController.class})
 @Order(1) // Higher priority than GlobalExceptionHandler
 public class ItemControllerExceptionHandler extends BaseExceptionHandler {
 
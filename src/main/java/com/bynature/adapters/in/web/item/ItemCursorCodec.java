@@ -0,0 +1,45 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.exception.ItemValidationException;
+import com.bynature.domain.model.ItemCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes an {@link ItemCursor} as an opaque, URL-safe token so clients never build cursors themselves.
+ */
+public final class ItemCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private ItemCursorCodec() {
+    }
+
+    public static String encode(ItemCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        // The name goes last as it is the only free-text field
+        String raw = String.join(SEPARATOR, Double.toString(cursor.price()), cursor.createdAt().toString(),
+                cursor.itemId().toString(), cursor.name());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ItemCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            return new ItemCursor(parts[3], Double.parseDouble(parts[0]), LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ItemValidationException(List.of("Invalid item cursor: " + token));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.exception.ItemValidationException;
+import com.bynature.domain.model.ItemImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Turns a CSV or NDJSON supplier feed into a lazy stream of rows: the body is read as the stream is consumed, one record
+ * at a time. Rows that cannot be read are passed on with an error rather than failing the whole feed.
+ */
+final class ItemFeedReader {
+
+    // Generous for one item, small enough that a broken record cannot exhaust memory
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final List<String> COLUMNS = List.of("name", "description", "price", "imageurl");
+
+    private ItemFeedReader() {
+    }
+
+    /**
+     * Reads the header right away, so a feed without the expected columns is refused before anything is imported.
+     */
+    static Stream<ItemImportRow> csv(Reader reader) {
+        CsvRecordReader records = new CsvRecordReader(reader, MAX_RECORD_LENGTH);
+        int[] positions = readHeader(records);
+
+        return stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super ItemImportRow> action) {
+                if (done) {
+                    return false;
+                }
+                try {
+                    CsvRecordReader.CsvRecord record = records.next();
+                    if (record == null) {
+                        done = true;
+                        return false;
+                    }
+                    action.accept(toRow(record, positions));
+                } catch (CsvRecordReader.MalformedRecordException e) {
+                    // Past a malformed record there is no telling where the next one starts
+                    done = true;
+                    action.accept(ItemImportRow.unreadable(e.getLine(), e.getMessage() + ", import stopped"));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            }
+        });
+    }
+
+    static Stream<ItemImportRow> ndjson(Reader reader, ObjectMapper objectMapper) {
+        LineReader lines = new LineReader(reader);
+
+        return stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super ItemImportRow> action) {
+                try {
+                    while (!done) {
+                        String line = lines.next();
+                        if (line == null) {
+                            done = true;
+                        } else if (lines.truncated) {
+                            action.accept(ItemImportRow.unreadable(lines.number,
+                                    "Record exceeds " + MAX_RECORD_LENGTH + " characters"));
+                            return true;
+                        } else if (!line.isBlank()) {
+                            action.accept(toRow(lines.number, line, objectMapper));
+                            return true;
+                        }
+                    }
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private static Stream<ItemImportRow> stream(Spliterator<ItemImportRow> spliterator) {
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static int[] readHeader(CsvRecordReader records) {
+        CsvRecordReader.CsvRecord header;
+        try {
+            header = records.next();
+        } catch (CsvRecordReader.MalformedRecordException e) {
+            throw new ItemValidationException(List.of("Unreadable CSV header: " + e.getMessage()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (header == null) {
+            throw new ItemValidationException(List.of("CSV header is missing"));
+        }
+
+        List<String> names = header.fields().stream()
+                .map(name -> name.strip().replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        int[] positions = new int[COLUMNS.size()];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = names.indexOf(COLUMNS.get(i));
+            if (positions[i] < 0) {
+                missing.add("CSV header is missing column " + COLUMNS.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new ItemValidationException(missing);
+        }
+        return positions;
+    }
+
+    private static ItemImportRow toRow(CsvRecordReader.CsvRecord record, int[] positions) {
+        List<String> fields = record.fields();
+        String price = field(fields, positions[2]);
+        Double parsedPrice = null;
+        if (price != null) {
+            try {
+                parsedPrice = Double.parseDouble(price);
+            } catch (NumberFormatException e) {
+                return ItemImportRow.unreadable(record.line(), "Item price is not a number: " + price);
+            }
+        }
+        return ItemImportRow.of(record.line(), field(fields, positions[0]), field(fields, positions[1]),
+                parsedPrice, field(fields, positions[3]));
+    }
+
+    private static String field(List<String> fields, int position) {
+        if (position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static ItemImportRow toRow(long line, String json, ObjectMapper objectMapper) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            return ItemImportRow.unreadable(line, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ItemImportRow.unreadable(line, "Expected a JSON object");
+        }
+
+        JsonNode price = node.path("price");
+        if (!price.isMissingNode() && !price.isNull() && !price.isNumber()) {
+            return ItemImportRow.unreadable(line, "Item price is not a number: " + price);
+        }
+        return ItemImportRow.of(line, text(node, "name"), text(node, "description"),
+                price.isNumber() ? price.doubleValue() : null, text(node, "imageUrl"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Reads lines of at most {@link #MAX_RECORD_LENGTH} characters; the rest of a longer line is skipped.
+     */
+    private static class LineReader {
+
+        private final Reader reader;
+        private final StringBuilder line = new StringBuilder();
+        private long number;
+        private boolean truncated;
+
+        LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        String next() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            number++;
+            while (c != -1 && c != '\n') {
+                if (line.length() < MAX_RECORD_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+                c = reader.read();
+            }
+            return line.toString();
+        }
+    }
+}
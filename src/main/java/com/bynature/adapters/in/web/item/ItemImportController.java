@@ -0,0 +1,58 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.model.ItemImportReport;
+import com.bynature.domain.model.ItemImportRow;
+import com.bynature.domain.service.ItemImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/items")
+public class ItemImportController {
+
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ItemImportService itemImportService;
+    private final ObjectMapper objectMapper;
+
+    public ItemImportController(ItemImportService itemImportService, ObjectMapper objectMapper) {
+        this.itemImportService = itemImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Imports a supplier feed. The body is streamed straight from the request into batched inserts, never held
+     * whole in memory; rejected rows are listed in the report by line number.
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<ItemImportReportResponse> importItems(
+            @RequestHeader("Content-Type") MediaType contentType,
+            InputStream body) throws IOException {
+
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(body, charset));
+             Stream<ItemImportRow> rows = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                     ? ItemFeedReader.csv(reader)
+                     : ItemFeedReader.ndjson(reader, objectMapper)) {
+
+            ItemImportReport report = itemImportService.importItems(rows);
+            return ResponseEntity.ok(ItemImportReportResponse.fromDomain(report));
+        }
+    }
+}
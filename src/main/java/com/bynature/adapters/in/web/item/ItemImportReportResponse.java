@@ -0,0 +1,20 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.model.ItemImportReport;
+
+import java.util.List;
+
+public record ItemImportReportResponse(long rows, long imported, long rejected, List<RowError> errors,
+                                       boolean errorsTruncated) {
+
+    public static ItemImportReportResponse fromDomain(ItemImportReport report) {
+        return new ItemImportReportResponse(report.rows(), report.imported(), report.rejected(),
+                report.errors().stream()
+                        .map(error -> new RowError(error.line(), error.violations()))
+                        .toList(),
+                report.errorsTruncated());
+    }
+
+    public record RowError(long line, List<String> violations) {
+    }
+}
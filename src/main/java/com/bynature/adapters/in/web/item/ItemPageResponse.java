@@ -0,0 +1,15 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.model.ItemPage;
+
+import java.util.List;
+
+public record ItemPageResponse(List<ItemRetrievalResponse> items, String nextCursor) {
+
+    public static ItemPageResponse fromDomain(ItemPage page) {
+        return new ItemPageResponse(page.items().stream()
+                .map(ItemRetrievalResponse::fromDomain)
+                .toList(),
+                ItemCursorCodec.encode(page.nextCursor()));
+    }
+}
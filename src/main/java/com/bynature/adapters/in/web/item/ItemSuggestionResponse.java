@@ -0,0 +1,12 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.domain.model.ItemSuggestion;
+
+import java.util.UUID;
+
+public record ItemSuggestionResponse(UUID id, String name) {
+
+    public static ItemSuggestionResponse fromDomain(ItemSuggestion suggestion) {
+        return new ItemSuggestionResponse(suggestion.itemId(), suggestion.name());
+    }
+}
@@ -1,28 +1,39 @@
 package com.bynature.adapters.in.web.order;
 
 import com.bynature.adapters.in.web.order.dto.request.OrderCreationRequest;
+import com.bynature.adapters.in.web.order.dto.request.OrderStatusUpdateRequest;
+import com.bynature.adapters.in.web.order.dto.response.OrderPageResponse;
 import com.bynature.adapters.in.web.order.dto.response.OrderRetrievalResponse;
+import com.bynature.adapters.in.web.order.dto.response.OrderStatusUpdateResponse;
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderPage;
+import com.bynature.domain.model.OrderStatusUpdateResult;
 import com.bynature.domain.service.CustomerService;
 import com.bynature.domain.service.ItemService;
 import com.bynature.domain.service.OrderService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final OrderService orderService;
     private final ItemService itemService;
     private final CustomerService customerService;
@@ -36,10 +47,10 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<OrderRetrievalResponse> createOrder(@Valid @RequestBody OrderCreationRequest orderCreationRequest) {
 
-        UUID createdOrderUUID = orderService.createOrder(orderCreationRequest.toDomain(customerService, itemService));
+        Order createdOrder = orderService.createOrder(orderCreationRequest.toDomain(customerService, itemService));
 
-        OrderRetrievalResponse orderRetrievalResponse = OrderRetrievalResponse
-                .fromDomain(orderService.getOrder(createdOrderUUID));
+        // The persisted order is the aggregate we just built, no need to read it back
+        OrderRetrievalResponse orderRetrievalResponse = OrderRetrievalResponse.fromDomain(createdOrder);
 
         // Return a 201 Created response with the location of the new order.
         return ResponseEntity
@@ -47,6 +58,22 @@ public class OrderController {
                 .body(orderRetrievalResponse);
     }
 
+    /**
+     * Moves a wave of orders to SHIPPED or DELIVERED, for callers with the admin:write scope. Orders already in the
+     * status, that cannot move to it or do not exist are reported in the results rather than failing the others.
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<OrderStatusUpdateResponse> updateOrderStatuses(
+            @Valid @RequestBody OrderStatusUpdateRequest orderStatusUpdateRequest) {
+
+        Map<UUID, OrderStatusUpdateResult> results = orderService.updateOrderStatuses(
+                orderStatusUpdateRequest.orderIds(), orderStatusUpdateRequest.status());
+
+        return ResponseEntity
+                .ok()
+                .body(OrderStatusUpdateResponse.fromDomain(orderStatusUpdateRequest.status(), results));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OrderRetrievalResponse> getOrder(@PathVariable("id") UUID uuid) {
 
@@ -61,7 +88,8 @@ public class OrderController {
                 .body(OrderRetrievalResponse.fromDomain(order));
     }
 
-    @GetMapping("customer/{id}")
+    // The whole list only without paging parameters: a cursor alone still gets a page
+    @GetMapping(value = "customer/{id}", params = {"!limit", "!after"})
     public ResponseEntity<List<OrderRetrievalResponse>> getCustomerOrders(@PathVariable("id") UUID uuid) {
 
         List<Order> ordersByCustomer = orderService.getOrdersByCustomer(uuid);
@@ -77,4 +105,17 @@ public class OrderController {
                         .map(OrderRetrievalResponse::fromDomain)
                         .toList());
     }
-}
\ No newline at end of file
+
+    @GetMapping("customer/{id}")
+    public ResponseEntity<OrderPageResponse> getCustomerOrdersPage(@PathVariable("id") UUID uuid,
+                                                                   @RequestParam(value = "after", required = false) String after,
+                                                                   @RequestParam(value = "limit", defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+
+        OrderPage page = orderService.getOrdersByCustomer(uuid, OrderCursorCodec.decode(after),
+                Math.clamp(limit, 1, MAX_PAGE_SIZE));
+
+        return ResponseEntity
+                .ok()
+                .body(OrderPageResponse.fromDomain(page));
+    }
+}
@@ -0,0 +1,43 @@
+package com.bynature.adapters.in.web.order;
+
+import com.bynature.domain.exception.OrderValidationException;
+import com.bynature.domain.model.OrderCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes an {@link OrderCursor} as an opaque, URL-safe token so clients never build cursors themselves.
+ */
+public final class OrderCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private OrderCursorCodec() {
+    }
+
+    public static String encode(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt() + SEPARATOR + cursor.orderId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new OrderValidationException(List.of("Invalid order cursor: " + token));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bynature.adapters.in.web.order.dto.request;
 
 import com.bynature.domain.model.Email;
+import com.bynature.domain.model.Item;
 import com.bynature.domain.model.Order;
 import com.bynature.domain.model.OrderItem;
 import com.bynature.domain.model.PhoneNumber;
@@ -12,7 +13,10 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public record OrderCreationRequest( @NotNull(message = "Customer ID is required")
                                     UUID customerId,
@@ -29,11 +33,18 @@ public record OrderCreationRequest( @NotNull(message = "Customer ID is required"
                                     ShippingAddressCreationRequest shippingAddress) {
 
     public Order toDomain(CustomerService customerService, ItemService itemService) {
+        // Resolve every order line with a single lookup rather than one query per item
+        Map<UUID, Item> itemsById = itemService.getItems(orderItems().stream()
+                        .map(OrderItemCreationRequest::itemId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
         return new Order(
                 customerService.getCustomer(customerId()),
                 orderItems().stream()
                         .map(orderItem -> new OrderItem(
-                                itemService.getItem(orderItem.itemId()),
+                                itemsById.get(orderItem.itemId()),
                                 orderItem.quantity()))
                         .toList(),
                 total(),
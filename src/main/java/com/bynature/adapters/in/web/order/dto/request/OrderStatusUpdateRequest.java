@@ -0,0 +1,24 @@
+package com.bynature.adapters.in.web.order.dto.request;
+
+import com.bynature.domain.model.OrderStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record OrderStatusUpdateRequest(@NotEmpty(message = "At least one order ID is required")
+                                       @Size(max = 10_000, message = "At most 10000 orders can be updated at once")
+                                       List<@NotNull(message = "Order IDs must not be null") UUID> orderIds,
+
+                                       @NotNull(message = "Status is required")
+                                       OrderStatus status) {
+
+    // Payment statuses follow Stripe events and cancellations go through the order itself
+    @AssertTrue(message = "Only SHIPPED and DELIVERED can be set on a wave of orders")
+    public boolean isWaveStatus() {
+        return status == null || status == OrderStatus.SHIPPED || status == OrderStatus.DELIVERED;
+    }
+}
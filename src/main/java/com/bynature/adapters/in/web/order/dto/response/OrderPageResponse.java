@@ -0,0 +1,16 @@
+package com.bynature.adapters.in.web.order.dto.response;
+
+import com.bynature.adapters.in.web.order.OrderCursorCodec;
+import com.bynature.domain.model.OrderPage;
+
+import java.util.List;
+
+public record OrderPageResponse(List<OrderRetrievalResponse> orders, String nextCursor) {
+
+    public static OrderPageResponse fromDomain(OrderPage page) {
+        return new OrderPageResponse(page.orders().stream()
+                .map(OrderRetrievalResponse::fromDomain)
+                .toList(),
+                OrderCursorCodec.encode(page.nextCursor()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.bynature.adapters.in.web.order.dto.response;
+
+import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record OrderStatusUpdateResponse(OrderStatus status, long updated, long unchanged, long refused, long notFound,
+                                        Map<UUID, OrderStatusUpdateResult> results) {
+
+    public static OrderStatusUpdateResponse fromDomain(OrderStatus status,
+                                                       Map<UUID, OrderStatusUpdateResult> results) {
+        return new OrderStatusUpdateResponse(status,
+                count(results, OrderStatusUpdateResult.UPDATED),
+                count(results, OrderStatusUpdateResult.UNCHANGED),
+                count(results, OrderStatusUpdateResult.REFUSED),
+                count(results, OrderStatusUpdateResult.NOT_FOUND),
+                results);
+    }
+
+    private static long count(Map<UUID, OrderStatusUpdateResult> results, OrderStatusUpdateResult result) {
+        return results.values().stream().filter(result::equals).count();
+    }
+}
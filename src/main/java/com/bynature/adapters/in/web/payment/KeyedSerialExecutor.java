@@ -0,0 +1,40 @@
+package com.bynature.adapters.in.web.payment;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks with the same key one after the other, in the order they were submitted, and tasks with different keys in
+ * parallel. Each key only holds the last task submitted for it, and is forgotten once that task is done.
+ */
+final class KeyedSerialExecutor<K> {
+
+    private final Executor executor;
+    private final Map<K, CompletableFuture<Void>> lastTasks = new ConcurrentHashMap<>();
+
+    KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs {@code task} once every task submitted before it with the same key is done, whether it succeeded or not.
+     * A task without a key runs right away.
+     */
+    CompletableFuture<Void> execute(K key, Runnable task) {
+        if (key == null) {
+            return CompletableFuture.runAsync(task, executor);
+        }
+
+        CompletableFuture<Void> submitted = lastTasks.compute(key, (k, previous) -> previous == null
+                ? CompletableFuture.runAsync(task, executor)
+                : previous.exceptionally(e -> null).thenRunAsync(task, executor));
+        // Completes once the key is forgotten, if nothing was submitted for it meanwhile
+        return submitted.whenComplete((result, e) -> lastTasks.remove(key, submitted));
+    }
+
+    int activeKeys() {
+        return lastTasks.size();
+    }
+}
@@ -18,6 +18,15 @@ public enum StripeEvent {
         return eventType;
     }
 
+    public static boolean isKnown(String eventType) {
+        for (StripeEvent event : StripeEvent.values()) {
+            if (event.eventType.equals(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static StripeEvent fromString(String eventType) {
         for (StripeEvent event : StripeEvent.values()) {
             if (event.eventType.equals(eventType)) {
@@ -0,0 +1,224 @@
+package com.bynature.adapters.in.web.payment;
+
+import com.bynature.domain.exception.OrderNotFoundException;
+import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+import com.bynature.domain.service.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.model.Charge;
+import com.stripe.model.Event;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.StripeObject;
+import com.stripe.net.ApiResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Applies a Stripe event to the order named in its object's metadata. When the object cannot be deserialized, for
+ * instance because it was sent with another API version, the order is read from the raw JSON instead.
+ * <p>
+ * An event that can never be applied, such as one whose object has an unexpected type, fails with an
+ * {@link IllegalArgumentException}.
+ */
+@Component
+class StripeEventProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(StripeEventProcessor.class);
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    StripeEventProcessor(OrderService orderService, ObjectMapper objectMapper) {
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param payload an event as Stripe sent it, already verified
+     * @return what was done
+     */
+    String process(String payload) {
+        Event event;
+        try {
+            event = StripeObject.deserializeStripeObject(payload, Event.class, ApiResource.getGlobalResponseGetter());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unreadable Stripe event", e);
+        }
+        return process(event);
+    }
+
+    /**
+     * @return the order an event is about, read straight from its payload, or empty if it names none
+     */
+    Optional<UUID> orderIdOf(String payload) {
+        try {
+            return extractOrderIdFromMetadata(objectMapper.readTree(payload).path("data").path("object"));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    String process(Event event) {
+        return event.getDataObjectDeserializer()
+                .getObject()
+                .map(obj -> processDeserializedEvent(event.getType(), obj))
+                .orElseGet(() -> processRawJsonEvent(event));
+    }
+
+    private String processDeserializedEvent(String eventType, StripeObject stripeObject) {
+        return switch (StripeEvent.fromString(eventType)) {
+            case PAYMENT_INTENT_CREATED -> handlePaymentIntentCreated(stripeObject);
+            case PAYMENT_INTENT_SUCCEEDED -> handlePaymentIntentSucceeded(stripeObject);
+            case CHARGE_SUCCEEDED -> handleChargeSucceeded(stripeObject);
+            case PAYMENT_INTENT_PAYMENT_FAILED -> handlePaymentIntentFailed(stripeObject);
+            case CHARGE_FAILED -> handleChargeFailed(stripeObject);
+            default -> {
+                log.info("ℹ️  Unhandled event type: {}", eventType);
+                yield "Event acknowledged";
+            }
+        };
+    }
+
+    private String processRawJsonEvent(Event event) {
+        String rawJson = event.getDataObjectDeserializer().getRawJson();
+        log.warn("⚠️  Deserialization issue, using raw JSON (length: {} chars)", rawJson.length());
+
+        JsonNode data;
+        try {
+            data = objectMapper.readTree(rawJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable raw JSON event", e);
+        }
+        return extractOrderIdFromMetadata(data)
+                .map(orderId -> processRawEvent(event.getType(), orderId, data))
+                .orElseGet(() -> {
+                    log.warn("⚠️  No orderId in metadata for {}", event.getType());
+                    return "Event acknowledged (no orderId)";
+                });
+    }
+
+    private Optional<UUID> extractOrderIdFromMetadata(JsonNode data) {
+        return Optional.ofNullable(data.path("metadata").path("orderId").asText(null))
+                .map(UUID::fromString);
+    }
+
+    private String processRawEvent(String eventType, UUID orderId, JsonNode data) {
+        log.info("✅ Processing {} for orderId: {}", eventType, orderId);
+
+        return switch (StripeEvent.fromString(eventType)) {
+            case PAYMENT_INTENT_CREATED -> {
+                String clientSecret = data.path("client_secret").asText(null);
+                yield outcome(orderId,
+                        orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_INTEND_CREATED, clientSecret),
+                        "Payment intent created");
+            }
+            case PAYMENT_INTENT_SUCCEEDED ->
+                    outcome(orderId, orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_PROCESSING),
+                            "Payment processing");
+            case CHARGE_SUCCEEDED ->
+                    outcome(orderId, orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_CONFIRMED),
+                            "Payment confirmed");
+            case PAYMENT_INTENT_PAYMENT_FAILED, CHARGE_FAILED ->
+                    outcome(orderId, orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_FAILED),
+                            "Payment failed");
+            default -> {
+                log.info("ℹ️  Unhandled event type: {}", eventType);
+                yield "Event acknowledged";
+            }
+        };
+    }
+
+    private String handlePaymentIntentCreated(StripeObject stripeObject) {
+        if (stripeObject instanceof PaymentIntent paymentIntent) {
+            UUID orderId = UUID.fromString(paymentIntent.getMetadata().get("orderId"));
+            String clientSecret = paymentIntent.getClientSecret();
+
+            OrderStatusUpdateResult result = orderService.updateOrderStatus(
+                    orderId,
+                    OrderStatus.PAYMENT_INTEND_CREATED,
+                    clientSecret
+            );
+
+            log.info("Payment intent created: {}, orderId: {}", paymentIntent.getId(), orderId);
+            return outcome(orderId, result, "Payment intent created");
+        }
+        throw new IllegalArgumentException("Invalid payment intent object");
+    }
+
+    private String handlePaymentIntentSucceeded(StripeObject stripeObject) {
+        if (stripeObject instanceof PaymentIntent paymentIntent) {
+            UUID orderId = UUID.fromString(paymentIntent.getMetadata().get("orderId"));
+
+            OrderStatusUpdateResult result = orderService.updateOrderStatus(
+                    orderId,
+                    OrderStatus.PAYMENT_PROCESSING
+            );
+
+            log.info("Payment processing: {}, orderId: {}", paymentIntent.getId(), orderId);
+            return outcome(orderId, result, "Payment processing");
+        }
+        throw new IllegalArgumentException("Invalid payment intent object");
+    }
+
+    private String handleChargeSucceeded(StripeObject stripeObject) {
+        if (stripeObject instanceof Charge charge) {
+            UUID orderId = UUID.fromString(charge.getMetadata().get("orderId"));
+
+            OrderStatusUpdateResult result = orderService.updateOrderStatus(
+                    orderId,
+                    OrderStatus.PAYMENT_CONFIRMED
+            );
+
+            log.info("Payment confirmed: {}, orderId: {}", charge.getId(), orderId);
+            return outcome(orderId, result, "Payment confirmed");
+        }
+        throw new IllegalArgumentException("Invalid charge object");
+    }
+
+    private String handlePaymentIntentFailed(StripeObject stripeObject) {
+        if (stripeObject instanceof PaymentIntent paymentIntent) {
+            UUID orderId = UUID.fromString(paymentIntent.getMetadata().get("orderId"));
+
+            OrderStatusUpdateResult result = orderService.updateOrderStatus(
+                    orderId,
+                    OrderStatus.PAYMENT_FAILED
+            );
+
+            log.info("Payment failed: {}, orderId: {}", paymentIntent.getId(), orderId);
+            return outcome(orderId, result, "Payment failed");
+        }
+        throw new IllegalArgumentException("Invalid payment intent object");
+    }
+
+    private String handleChargeFailed(StripeObject stripeObject) {
+        if (stripeObject instanceof Charge charge) {
+            UUID orderId = UUID.fromString(charge.getMetadata().get("orderId"));
+
+            OrderStatusUpdateResult result = orderService.updateOrderStatus(
+                    orderId,
+                    OrderStatus.PAYMENT_FAILED
+            );
+
+            log.info("Charge failed: {}, orderId: {}", charge.getId(), orderId);
+            return outcome(orderId, result, "Charge failed");
+        }
+        throw new IllegalArgumentException("Invalid charge object");
+    }
+
+    // A status the order cannot move to comes from an event older than the order's status: nothing to retry. A missing
+    // order is an error though, so the event is parked rather than acknowledged
+    private static String outcome(UUID orderId, OrderStatusUpdateResult result, String outcome) {
+        return switch (result) {
+            case UPDATED -> outcome;
+            case UNCHANGED -> outcome + ", ignored: already applied";
+            case REFUSED -> outcome + ", ignored: the order has moved past it";
+            case NOT_FOUND -> throw new OrderNotFoundException("Order not found with id: " + orderId, orderId);
+        };
+    }
+}
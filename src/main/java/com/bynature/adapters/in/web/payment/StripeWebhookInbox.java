@@ -0,0 +1,218 @@
+package com.bynature.adapters.in.web.payment;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookInboxRepositoryAdapter;
+import com.bynature.application.service.WebhookEventDeduplicator;
+import com.bynature.domain.exception.OrderNotFoundException;
+import com.bynature.domain.model.StripeInboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verified Stripe events, stored by the webhook and applied in the background, so answering Stripe never waits on the
+ * order updates an event causes and a slow database no longer turns into timeouts and redeliveries.
+ * <p>
+ * The inbox is drained as soon as an event is stored, and polled every {@code poll-interval} for retries, events stored
+ * by other nodes and leases whose worker died. Events are claimed in batches and applied on virtual threads, those of
+ * one order one after the other in the order they were received and those of different orders in parallel, at most
+ * {@code concurrency} at a time since each holds a database connection while it is applied. Each goes
+ * through the {@link WebhookEventDeduplicator}: the order update, the record of the event and its removal from the
+ * inbox commit together. Which order wins does not rely on that ordering: Stripe itself sends events out of order, and
+ * {@link com.bynature.domain.model.OrderStatus} refuses a status that would take an order back. A failed event is
+ * tried again after an exponential backoff and parked after {@code max-attempts} attempts, or right away when it can
+ * never be applied.
+ */
+@Component
+class StripeWebhookInbox {
+
+    private static final Logger log = LoggerFactory.getLogger(StripeWebhookInbox.class);
+
+    private final StripeWebhookInboxRepositoryAdapter stripeWebhookInboxRepositoryAdapter;
+    private final StripeEventProcessor stripeEventProcessor;
+    private final WebhookEventDeduplicator webhookEventDeduplicator;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    // Bounds the connections the worker takes from the pool, whatever the batch size and the orders in it
+    private final Semaphore applyPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyedSerialExecutor<UUID> orderExecutor = new KeyedSerialExecutor<>(executor);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final Counter applied;
+    private final Counter duplicates;
+    private final Counter retried;
+    private final Counter parked;
+    private final Timer lag;
+
+    StripeWebhookInbox(StripeWebhookInboxRepositoryAdapter stripeWebhookInboxRepositoryAdapter,
+                       StripeEventProcessor stripeEventProcessor,
+                       WebhookEventDeduplicator webhookEventDeduplicator,
+                       MeterRegistry meterRegistry,
+                       @Value("${application.payments.webhook-inbox.batch-size:50}") int batchSize,
+                       @Value("${application.payments.webhook-inbox.lease:PT5M}") Duration lease,
+                       @Value("${application.payments.webhook-inbox.initial-backoff:PT5S}") Duration initialBackoff,
+                       @Value("${application.payments.webhook-inbox.max-backoff:PT1H}") Duration maxBackoff,
+                       @Value("${application.payments.webhook-inbox.max-attempts:12}") int maxAttempts,
+                       @Value("${application.payments.webhook-inbox.concurrency:4}") int concurrency) {
+        this.stripeWebhookInboxRepositoryAdapter = stripeWebhookInboxRepositoryAdapter;
+        this.stripeEventProcessor = stripeEventProcessor;
+        this.webhookEventDeduplicator = webhookEventDeduplicator;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.applyPermits = new Semaphore(concurrency);
+
+        this.applied = inboxCounter(meterRegistry, "applied");
+        this.duplicates = inboxCounter(meterRegistry, "duplicate");
+        this.retried = inboxCounter(meterRegistry, "retried");
+        this.parked = inboxCounter(meterRegistry, "parked");
+        Gauge.builder("stripe.webhook.inbox.orders", orderExecutor, KeyedSerialExecutor::activeKeys)
+                .description("Orders with Stripe events being applied")
+                .register(meterRegistry);
+        this.lag = Timer.builder("stripe.webhook.inbox.lag")
+                .description("Time from the delivery of a Stripe event to its application")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stores a verified event and starts applying it in the background.
+     *
+     * @return false if the event was already waiting
+     */
+    boolean enqueue(String eventId, String eventType, String payload) {
+        boolean stored = stripeWebhookInboxRepositoryAdapter.enqueue(eventId, eventType, payload, LocalDateTime.now());
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Shutting down, the event waits for the next start
+        }
+        return stored;
+    }
+
+    /**
+     * Applies every due event. Only one drain runs at a time; a drain requested meanwhile is run by the current one
+     * before it returns, so an event stored while draining is never left waiting for the next poll.
+     */
+    @Scheduled(initialDelayString = "${application.payments.webhook-inbox.poll-interval:PT5S}",
+            fixedDelayString = "${application.payments.webhook-inbox.poll-interval:PT5S}")
+    public void drain() {
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                int claimed;
+                do {
+                    claimed = drainBatch();
+                } while (claimed > 0 && !executor.isShutdown());
+            } catch (RuntimeException e) {
+                log.error("Could not drain the Stripe webhook inbox, retrying on next poll", e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StripeInboxEvent> claimed = stripeWebhookInboxRepositoryAdapter.claimDue(now, now.plus(lease), batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        CompletableFuture<?>[] applying = claimed.stream()
+                .map(event -> orderExecutor.execute(stripeEventProcessor.orderIdOf(event.payload()).orElse(null),
+                        () -> applyWithPermit(event)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(applying).join();
+        return claimed.size();
+    }
+
+    private void applyWithPermit(StripeInboxEvent event) {
+        applyPermits.acquireUninterruptibly();
+        try {
+            apply(event);
+        } finally {
+            applyPermits.release();
+        }
+    }
+
+    private void apply(StripeInboxEvent event) {
+        try {
+            Optional<String> outcome = webhookEventDeduplicator.processOnce(event.eventId(), event.eventType(), () -> {
+                String result = stripeEventProcessor.process(event.payload());
+                stripeWebhookInboxRepositoryAdapter.delete(event.eventId());
+                return result;
+            });
+
+            if (outcome.isPresent()) {
+                applied.increment();
+                lag.record(Duration.between(event.receivedAt(), LocalDateTime.now()));
+                log.info("Applied Stripe event {} {}: {}", event.eventType(), event.eventId(), outcome.get());
+            } else {
+                // Applied from an earlier delivery
+                stripeWebhookInboxRepositoryAdapter.delete(event.eventId());
+                duplicates.increment();
+            }
+        } catch (IllegalArgumentException | OrderNotFoundException e) {
+            // Trying again cannot help
+            stripeWebhookInboxRepositoryAdapter.park(event.eventId(), e.getMessage());
+            parked.increment();
+            log.error("Parked Stripe event {} {}, it cannot be applied", event.eventType(), event.eventId(), e);
+        } catch (RuntimeException e) {
+            if (event.attempts() >= maxAttempts) {
+                stripeWebhookInboxRepositoryAdapter.park(event.eventId(), e.getMessage());
+                parked.increment();
+                log.error("Parked Stripe event {} {} after {} attempts", event.eventType(), event.eventId(),
+                        event.attempts(), e);
+            } else {
+                Duration backoff = backoff(event.attempts());
+                stripeWebhookInboxRepositoryAdapter.reschedule(event.eventId(), LocalDateTime.now().plus(backoff),
+                        e.getMessage());
+                retried.increment();
+                log.warn("Could not apply Stripe event {} {}, retrying in {}", event.eventType(), event.eventId(),
+                        backoff, e);
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static Counter inboxCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("stripe.webhook.inbox")
+                .description("Stripe events taken from the inbox, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
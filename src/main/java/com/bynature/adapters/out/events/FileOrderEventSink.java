@@ -0,0 +1,57 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.domain.model.OrderEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event to a file as one line of JSON, and forces the batch to disk before it counts as published.
+ */
+@Component
+@ConditionalOnProperty(name = "application.orders.outbox.sink", havingValue = "file")
+public class FileOrderEventSink implements OrderEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOrderEventSink(ObjectMapper objectMapper,
+                              @Value("${application.orders.outbox.file.path:order-events.jsonl}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (OrderEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write order events as JSON", e);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append order events to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.domain.model.OrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each batch as a JSON array to {@code application.orders.outbox.http.url}. Any answer but a 2xx, or none within
+ * the timeout, has the batch posted again: the receiver drops event ids it already handled.
+ */
+@Component
+@ConditionalOnProperty(name = "application.orders.outbox.sink", havingValue = "http")
+public class HttpOrderEventSink implements OrderEventSink {
+
+    private final RestClient restClient;
+
+    public HttpOrderEventSink(RestClient.Builder restClientBuilder,
+                              @Value("${application.orders.outbox.http.url:http://localhost:8089/order-events}") String url,
+                              @Value("${application.orders.outbox.http.timeout:PT5S}") Duration timeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build());
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
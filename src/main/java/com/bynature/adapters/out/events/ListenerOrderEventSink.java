@@ -0,0 +1,28 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.domain.model.OrderEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes each event to the {@code @EventListener}s of {@link OrderEvent} in this application, synchronously on the
+ * relay's thread: a listener that throws has the whole batch published again.
+ */
+@Component
+@ConditionalOnProperty(name = "application.orders.outbox.sink", havingValue = "listener", matchIfMissing = true)
+public class ListenerOrderEventSink implements OrderEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ListenerOrderEventSink(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
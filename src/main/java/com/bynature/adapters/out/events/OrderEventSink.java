@@ -0,0 +1,19 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.domain.model.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Where the order outbox relay publishes events. The listener sink hands them to listeners in this application; the
+ * file and HTTP sinks hand them to other systems, or to a local stub standing in for them. Chosen with
+ * {@code application.orders.outbox.sink}.
+ */
+public interface OrderEventSink {
+
+    /**
+     * Publishes a batch, oldest event first. The batch is published again if this throws, so a sink may deliver an event
+     * more than once but never loses one.
+     */
+    void publish(List<OrderEvent> events);
+}
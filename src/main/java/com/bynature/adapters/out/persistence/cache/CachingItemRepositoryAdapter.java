@@ -0,0 +1,161 @@
+package com.bynature.adapters.out.persistence.cache;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
+import com.bynature.domain.exception.ItemNotFoundException;
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
+import com.bynature.domain.repository.ItemRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-through cache in front of {@link ItemRepositoryAdapter}.
+ * <p>
+ * Holds items by id and the full catalog as a single precomputed list. Every write goes to the database first
+ * and then evicts the affected entries; loads run inside the cache's per-key computation, so an eviction waits
+ * for a load in flight and can never be overtaken by it.
+ */
+@Primary
+@Repository
+public class CachingItemRepositoryAdapter implements ItemRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingItemRepositoryAdapter.class);
+
+    private static final String CATALOG_KEY = "all";
+
+    private final ItemRepository delegate;
+    private final Cache<UUID, Item> itemsById;
+    private final Cache<String, List<Item>> catalog;
+
+    public CachingItemRepositoryAdapter(ItemRepositoryAdapter delegate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${application.cache.items.maximum-size:10000}") long maximumSize,
+                                        @Value("${application.cache.items.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.itemsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.catalog = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, itemsById, "items");
+        CaffeineCacheMetrics.monitor(meterRegistry, catalog, "items.catalog");
+    }
+
+    @Override
+    public UUID saveItem(Item item) {
+        UUID itemId = delegate.saveItem(item);
+        evict(itemId);
+        return itemId;
+    }
+
+    @Override
+    public void saveItems(List<Item> items) {
+        delegate.saveItems(items);
+        evict(items.stream().map(Item::getId).toList());
+    }
+
+    @Override
+    public void updateItem(Item item) {
+        delegate.updateItem(item);
+        evict(item.getId());
+    }
+
+    @Override
+    public Item getItem(UUID itemId) throws ItemNotFoundException {
+        return itemsById.get(itemId, delegate::getItem);
+    }
+
+    @Override
+    public List<Item> getItems(Collection<UUID> itemIds) throws ItemNotFoundException {
+        Set<UUID> requestedIds = new LinkedHashSet<>(itemIds);
+        List<Item> items = new ArrayList<>(requestedIds.size());
+        List<UUID> missingIds = new ArrayList<>();
+
+        for (UUID itemId : requestedIds) {
+            Item cached = itemsById.getIfPresent(itemId);
+            if (cached != null) {
+                items.add(cached);
+            } else {
+                missingIds.add(itemId);
+            }
+        }
+
+        // Misses are read in bulk but not cached: a bulk load cannot be ordered against evictions per key
+        if (!missingIds.isEmpty()) {
+            items.addAll(delegate.getItems(missingIds));
+        }
+        return items;
+    }
+
+    @Override
+    public void deleteItem(UUID itemId) {
+        delegate.deleteItem(itemId);
+        evict(itemId);
+    }
+
+    @Override
+    public List<Item> getAllItems() {
+        return catalog.get(CATALOG_KEY, key -> {
+            log.debug("Loading item catalog into cache");
+            List<Item> items = List.copyOf(delegate.getAllItems());
+            items.forEach(item -> itemsById.put(item.getId(), item));
+            return items;
+        });
+    }
+
+    @Override
+    public ItemPage searchItems(ItemSearchCriteria criteria, ItemCursor after, int limit) {
+        // Filtered pages are too many to cache usefully, they are served by the database indexes
+        return delegate.searchItems(criteria, after, limit);
+    }
+
+    private void evict(UUID itemId) {
+        evict(List.of(itemId));
+    }
+
+    private void evict(Collection<UUID> itemIds) {
+        evictNow(itemIds);
+
+        // Inside a surrounding transaction the change is not visible yet, evict again once it is
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(itemIds);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Collection<UUID> itemIds) {
+        // The catalog first: this waits for a catalog load in flight, which may still be filling itemsById
+        catalog.invalidate(CATALOG_KEY);
+        itemsById.invalidateAll(itemIds);
+        log.debug("Evicted {} items and the catalog from cache", itemIds.size());
+    }
+}
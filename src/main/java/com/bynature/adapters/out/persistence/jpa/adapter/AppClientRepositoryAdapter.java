@@ -4,6 +4,7 @@ import com.bynature.adapters.out.persistence.jpa.adapter.mapper.EntityMapper;
 import com.bynature.adapters.out.persistence.jpa.repository.AppClientJpaRepository;
 import com.bynature.domain.model.AppClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,4 +20,9 @@ public class AppClientRepositoryAdapter {
         return appClientRepository.findByAppClientId(appClientId).stream().map(EntityMapper::mapAppClientToDomain)
                 .toList();
     }
+
+    @Transactional
+    public boolean deactivate(String appClientId) {
+        return appClientRepository.deactivateByAppClientId(appClientId) > 0;
+    }
 }
@@ -4,13 +4,30 @@ import com.bynature.adapters.out.persistence.jpa.entity.ItemEntity;
 import com.bynature.adapters.out.persistence.jpa.repository.ItemJpaRepository;
 import com.bynature.domain.exception.ItemNotFoundException;
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
+import com.bynature.domain.model.ItemSort;
 import com.bynature.domain.repository.ItemRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -19,10 +36,15 @@ public class ItemRepositoryAdapter implements ItemRepository {
 
     private static final Logger log = LoggerFactory.getLogger(ItemRepositoryAdapter.class);
 
+    private static final String INSERT_ITEM_SQL = "INSERT INTO items" +
+            " (id, name, description, price, image_url, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private final ItemJpaRepository itemJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public ItemRepositoryAdapter(ItemJpaRepository itemJpaRepository) {
+    public ItemRepositoryAdapter(ItemJpaRepository itemJpaRepository, JdbcTemplate jdbcTemplate) {
         this.itemJpaRepository = itemJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -39,6 +61,26 @@ public class ItemRepositoryAdapter implements ItemRepository {
         return savedEntity.getId();
     }
 
+    @Override
+    @Transactional
+    public void saveItems(List<Item> items) {
+        log.debug("Saving batch of {} items", items.size());
+
+        // Plain JDBC batch: no entity state to track for rows we never read back, and the PostgreSQL
+        // driver folds the batch into multi-row inserts (reWriteBatchedInserts)
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, items.size(), (statement, item) -> {
+            statement.setObject(1, item.getId());
+            statement.setString(2, item.getName());
+            statement.setString(3, item.getDescription());
+            statement.setDouble(4, item.getPrice());
+            statement.setString(5, item.getImageUrl());
+            statement.setTimestamp(6, Timestamp.valueOf(item.getCreatedAt()));
+            statement.setTimestamp(7, Timestamp.valueOf(item.getUpdatedAt()));
+        });
+
+        log.info("Saved batch of {} items", items.size());
+    }
+
     @Override
     public void updateItem(Item item) {
 
@@ -59,6 +101,29 @@ public class ItemRepositoryAdapter implements ItemRepository {
                 .orElseThrow(()->new ItemNotFoundException("Item not found with id: " + itemId));
     }
 
+    @Override
+    public List<Item> getItems(Collection<UUID> itemIds) throws ItemNotFoundException {
+        Set<UUID> requestedIds = Set.copyOf(itemIds);
+        log.debug("Fetching {} items by ID", requestedIds.size());
+
+        // Use a single query to fetch all requested items
+        List<Item> items = itemJpaRepository.findAllById(requestedIds)
+                .stream()
+                .map(this::mapToDomain)
+                .toList();
+
+        if (items.size() != requestedIds.size()) {
+            Set<UUID> foundIds = items.stream().map(Item::getId).collect(Collectors.toSet());
+            UUID missingId = requestedIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .findFirst()
+                    .orElseThrow();
+            throw new ItemNotFoundException("Item not found with id: " + missingId, missingId);
+        }
+
+        return items;
+    }
+
     @Override
     public List<Item> getAllItems() {
         log.debug("Fetching all items");
@@ -68,6 +133,25 @@ public class ItemRepositoryAdapter implements ItemRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ItemPage searchItems(ItemSearchCriteria criteria, ItemCursor after, int limit) {
+        log.debug("Searching {} items matching {} after {}", limit, criteria, after);
+
+        // Read one extra row to know whether another page follows
+        List<Item> items = itemJpaRepository.findBy(searchSpecification(criteria, after),
+                        query -> query.sortBy(sortOf(criteria.sort())).limit(limit + 1).all())
+                .stream()
+                .map(this::mapToDomain)
+                .toList();
+
+        if (items.size() > limit) {
+            List<Item> page = items.subList(0, limit);
+            return new ItemPage(page, ItemCursor.of(page.getLast()));
+        }
+        return new ItemPage(items, null);
+    }
+
     @Override
     public void deleteItem(UUID itemId) {
         log.debug("Deleting item with ID: {}", itemId);
@@ -77,6 +161,56 @@ public class ItemRepositoryAdapter implements ItemRepository {
         log.info("Customer deleted with ID: {}", itemId);
     }
 
+    private static Specification<ItemEntity> searchSpecification(ItemSearchCriteria criteria, ItemCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), criteria.minPrice()));
+            }
+            if (criteria.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), criteria.maxPrice()));
+            }
+            if (criteria.namePrefix() != null) {
+                predicates.add(cb.like(cb.lower(root.get("name")),
+                        escapeLike(criteria.namePrefix().toLowerCase(Locale.ROOT)) + "%", '\\'));
+            }
+            if (after != null) {
+                predicates.add(keysetPredicate(root, cb, criteria.sort(), after));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Rows strictly after the cursor in the sort order, item id being the tie-breaker
+    private static Predicate keysetPredicate(Root<ItemEntity> root, CriteriaBuilder cb, ItemSort sort, ItemCursor after) {
+        return switch (sort) {
+            case NAME -> keyset(root, cb, root.get("name"), after.name(), true, after);
+            case PRICE_ASC -> keyset(root, cb, root.get("price"), after.price(), true, after);
+            case PRICE_DESC -> keyset(root, cb, root.get("price"), after.price(), false, after);
+            case NEWEST -> keyset(root, cb, root.get("createdAt"), after.createdAt(), false, after);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate keyset(Root<ItemEntity> root, CriteriaBuilder cb,
+                                                                      Path<T> key, T value, boolean ascending,
+                                                                      ItemCursor after) {
+        Predicate beyond = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        return cb.or(beyond, cb.and(cb.equal(key, value), cb.greaterThan(root.<UUID>get("id"), after.itemId())));
+    }
+
+    private static Sort sortOf(ItemSort sort) {
+        return switch (sort) {
+            case NAME -> Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"));
+            case PRICE_ASC -> Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+            case PRICE_DESC -> Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id"));
+            case NEWEST -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     // Mapping from domain to persistence entity
     private ItemEntity mapToEntity(Item item) {
         return new ItemEntity(item.getId(), item.getName(), item.getDescription(), item.getPrice(), item.getImageUrl(),
@@ -0,0 +1,98 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import com.bynature.adapters.out.persistence.jpa.entity.ItemEntity;
+import com.bynature.adapters.out.persistence.jpa.repository.ItemJpaRepository;
+import com.bynature.domain.model.Item;
+import com.bynature.domain.repository.ItemSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+public class ItemSearchRepositoryAdapter implements ItemSearchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSearchRepositoryAdapter.class);
+
+    private static final int MAX_TERMS = 8;
+
+    private final ItemJpaRepository itemJpaRepository;
+    private final boolean fullTextSearch;
+
+    public ItemSearchRepositoryAdapter(ItemJpaRepository itemJpaRepository, DataSource dataSource)
+            throws MetaDataAccessException {
+        this.itemJpaRepository = itemJpaRepository;
+        // The search_vector column and trigram indexes only exist on PostgreSQL
+        this.fullTextSearch = "PostgreSQL".equals(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        log.info("Item search uses {}", fullTextSearch ? "PostgreSQL full-text search" : "the LIKE fallback");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Item> searchItems(String text, int limit) {
+        log.debug("Searching {} items for '{}'", limit, text);
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        List<ItemEntity> entities;
+        if (fullTextSearch) {
+            String tsQuery = toPrefixTsQuery(normalized);
+            if (tsQuery.isEmpty()) {
+                return List.of();
+            }
+            entities = itemJpaRepository.searchByText(tsQuery, limit);
+            // Typo tolerance only kicks in when exact prefix matches do not fill the page: OR-ing both
+            // predicates in one query defeats the indexes and scans the whole table
+            if (entities.size() < limit) {
+                entities = withSimilarNames(entities, normalized, limit);
+            }
+        } else {
+            entities = itemJpaRepository.findByNameOrDescriptionLike("%" + escapeLike(normalized) + "%",
+                    PageRequest.of(0, limit));
+        }
+
+        return entities.stream()
+                .map(ItemEntity::toDomain)
+                .toList();
+    }
+
+    private List<ItemEntity> withSimilarNames(List<ItemEntity> matches, String text, int limit) {
+        Set<UUID> matchedIds = matches.stream().map(ItemEntity::getId).collect(Collectors.toSet());
+        List<ItemEntity> merged = new ArrayList<>(matches);
+        for (ItemEntity similar : itemJpaRepository.searchByNameSimilarity(text, limit)) {
+            if (merged.size() == limit) {
+                break;
+            }
+            if (!matchedIds.contains(similar.getId())) {
+                merged.add(similar);
+            }
+        }
+        return merged;
+    }
+
+    // "organic hon" becomes "organic:* & hon:*", terms are reduced to letters and digits so no tsquery syntax leaks in
+    private static String toPrefixTsQuery(String text) {
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,52 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import com.bynature.adapters.out.persistence.jpa.entity.JwkKeyEntity;
+import com.bynature.adapters.out.persistence.jpa.repository.JwkKeyJpaRepository;
+import com.bynature.domain.model.SigningKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JwkKeyRepositoryAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwkKeyRepositoryAdapter.class);
+
+    private final JwkKeyJpaRepository jwkKeyJpaRepository;
+
+    public JwkKeyRepositoryAdapter(JwkKeyJpaRepository jwkKeyJpaRepository) {
+        this.jwkKeyJpaRepository = jwkKeyJpaRepository;
+    }
+
+    /**
+     * @return all keys, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<SigningKey> findAll() {
+        return jwkKeyJpaRepository.findAllByOrderByCreatedAtDesc().stream()
+                .map(JwkKeyEntity::toDomain)
+                .toList();
+    }
+
+    @Transactional
+    public void save(SigningKey signingKey) {
+        jwkKeyJpaRepository.save(JwkKeyEntity.fromDomain(signingKey));
+        log.info("Saved signing key {}", signingKey.keyId());
+    }
+
+    /**
+     * Deletes keys created before {@code cutoff}, except {@code keepKeyId}.
+     */
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff, String keepKeyId) {
+        int deleted = jwkKeyJpaRepository.deleteCreatedBefore(cutoff, keepKeyId);
+        if (deleted > 0) {
+            log.info("Deleted {} signing keys created before {}", deleted, cutoff);
+        }
+        return deleted;
+    }
+}
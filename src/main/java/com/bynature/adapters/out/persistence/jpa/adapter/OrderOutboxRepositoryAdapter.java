@@ -0,0 +1,82 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.repository.OrderOutboxRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The order_outbox table. Statements run in the caller's transaction: events are appended with the order change they
+ * describe, and the relay locks, publishes and deletes a batch in one transaction.
+ * <p>
+ * Ids follow the order in which events are appended. Two transactions changing the same order are serialized by the
+ * lock on its row, and each appends after its change, so the events of an order get increasing ids in commit order.
+ */
+@Repository
+public class OrderOutboxRepositoryAdapter implements OrderOutboxRepository {
+
+    private static final String INSERT_EVENT_SQL = "INSERT INTO order_outbox (order_id, event_type, status, occurred_at)" +
+            " VALUES (?, ?, ?, ?)";
+
+    private static final RowMapper<OrderEvent> ORDER_EVENT_MAPPER = (rs, rowNum) -> new OrderEvent(
+            rs.getLong("id"),
+            rs.getObject("order_id", UUID.class),
+            OrderEvent.Type.valueOf(rs.getString("event_type")),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("occurred_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderOutboxRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(OrderEvent event) {
+        jdbcTemplate.update(INSERT_EVENT_SQL, event.orderId(), event.type().name(), event.status().name(),
+                Timestamp.valueOf(event.occurredAt()));
+    }
+
+    @Override
+    public void appendAll(Collection<OrderEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, new ArrayList<>(events), events.size(), (statement, event) -> {
+            statement.setObject(1, event.orderId());
+            statement.setString(2, event.type().name());
+            statement.setString(3, event.status().name());
+            statement.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+
+    /**
+     * Locks up to {@code limit} of the oldest events until the end of the transaction. A relay on another node asking
+     * for the same events waits for them to be published, so two relays never publish an order's events out of order.
+     *
+     * @return the locked events, oldest first
+     */
+    public List<OrderEvent> lockOldest(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT id, order_id, event_type, status, occurred_at
+                        FROM order_outbox
+                        ORDER BY id
+                        LIMIT ?
+                        FOR UPDATE""",
+                ORDER_EVENT_MAPPER, limit);
+    }
+
+    /**
+     * Deletes published events.
+     */
+    public void delete(Collection<Long> ids) {
+        jdbcTemplate.update("DELETE FROM order_outbox WHERE id = ANY(?)",
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint",
+                        ids.toArray())));
+    }
+}
@@ -1,25 +1,41 @@
 package com.bynature.adapters.out.persistence.jpa.adapter;
 
 import com.bynature.adapters.out.persistence.jpa.adapter.mapper.EntityMapper;
-import com.bynature.adapters.out.persistence.jpa.entity.CustomerEntity;
 import com.bynature.adapters.out.persistence.jpa.entity.ItemEntity;
 import com.bynature.adapters.out.persistence.jpa.entity.OrderEntity;
 import com.bynature.adapters.out.persistence.jpa.entity.OrderItemEntity;
 import com.bynature.adapters.out.persistence.jpa.entity.OrderItemId;
+import com.bynature.adapters.out.persistence.jpa.repository.CustomerJpaRepository;
 import com.bynature.adapters.out.persistence.jpa.repository.ItemJpaRepository;
 import com.bynature.adapters.out.persistence.jpa.repository.OrderJpaRepository;
 import com.bynature.domain.exception.OrderNotFoundException;
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderCursor;
+import com.bynature.domain.model.OrderPage;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
 import com.bynature.domain.repository.OrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,25 +49,55 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
     private static final Logger log = LoggerFactory.getLogger(OrderRepositoryAdapter.class);
 
+    // Orders per statement in bulk status updates, so a wave is never one long statement holding every row lock
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
+    // Ids are bound as one array rather than one parameter each, so every chunk runs the same prepared statement.
+    // The predecessors never include the target status, so an order already in it is not rewritten.
+    private static final String UPDATE_STATUSES_SQL = "UPDATE orders SET status = CAST(? AS order_status)," +
+            " updated_at = ? WHERE id = ANY(?) AND CAST(status AS varchar) = ANY(?)";
+
+    // The ids of the rows the update changed: reading statuses afterwards cannot tell them from orders already there
+    private static final String POSTGRESQL_UPDATE_STATUSES_RETURNING_SQL = UPDATE_STATUSES_SQL + " RETURNING id";
+    private static final String UPDATE_STATUSES_RETURNING_SQL =
+            "SELECT id FROM FINAL TABLE (" + UPDATE_STATUSES_SQL + ")";
+
+    private static final String SELECT_STATUSES_SQL = "SELECT id, status FROM orders WHERE id = ANY(?)";
+
     private final OrderJpaRepository orderJpaRepository;
     private final ItemJpaRepository itemJpaRepository;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateStatusesReturningSql;
 
-    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, ItemJpaRepository itemJpaRepository) {
+    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, ItemJpaRepository itemJpaRepository,
+                                  CustomerJpaRepository customerJpaRepository, JdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
         this.orderJpaRepository = orderJpaRepository;
         this.itemJpaRepository = itemJpaRepository;
+        this.customerJpaRepository = customerJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // UPDATE ... RETURNING is PostgreSQL syntax, H2 reads the updated rows through a data change delta table
+        this.updateStatusesReturningSql = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(
+                jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName))
+                ? POSTGRESQL_UPDATE_STATUSES_RETURNING_SQL
+                : UPDATE_STATUSES_RETURNING_SQL;
     }
 
     @Override
     @Transactional
-    public UUID saveOrder(Order order) {
+    public Order saveOrder(Order order) {
         log.debug("Saving order with ID: {} for status {}", order.getId(), order.getStatus());
 
         OrderEntity entity = mapToEntity(order);
-        OrderEntity savedEntity = orderJpaRepository.save(entity);
+        // A new order is inserted directly rather than merged, which would read it first
+        entity.markNew();
+        orderJpaRepository.save(entity);
 
         log.info("Order saved with ID: {} for status {}", order.getId(), order.getStatus());
 
-        return savedEntity.getId();
+        // The aggregate is exactly what was written, so hand it back instead of reloading the graph
+        return order;
     }
 
     @Override
@@ -70,31 +116,130 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
     @Override
     @Transactional
-    public void updateOrderStatus(UUID orderId,  OrderStatus status, String paymentIntentId) {
+    public OrderStatusUpdateResult updateOrderStatus(UUID orderId,  OrderStatus status, String paymentIntentId) {
         log.debug("Updating order status with ID: {} for status {}", orderId, status);
 
-        // Verify order exists before updating
-        getOrder(orderId);
-
-        orderJpaRepository.updateOrderStatus(orderId, status, paymentIntentId, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        if (orderJpaRepository.updateOrderStatus(orderId, status, paymentIntentId, now, status.predecessors()) == 0) {
+            OrderStatusUpdateResult result = unchangedOrRefused(orderId, status);
+            // The event that brings the payment intent can arrive after a later one: keep the intent all the same
+            orderJpaRepository.updateMissingPaymentIntentId(orderId, paymentIntentId, now);
+            return result;
+        }
 
         log.info("Order status updated with ID: {} for status {} and paymentIntentId {}", orderId,status,paymentIntentId);
+        return OrderStatusUpdateResult.UPDATED;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByCustomer(UUID customerId) {
-        return orderJpaRepository.findByCustomerId(customerId)
+        log.debug("Fetching orders for customer ID: {}", customerId);
+
+        return orderJpaRepository.findByCustomerIdWithItems(customerId)
                 .stream()
                 .map(EntityMapper::mapOrderToDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersByCustomer(UUID customerId, OrderCursor after, int limit) {
+        log.debug("Fetching {} orders for customer ID: {} after {}", limit, customerId, after);
+
+        // Read one extra id to know whether another page follows
+        Pageable firstRows = PageRequest.of(0, limit + 1);
+        List<UUID> pageIds = after == null
+                ? orderJpaRepository.findPageIdsByCustomerId(customerId, firstRows)
+                : orderJpaRepository.findPageIdsByCustomerIdAfter(customerId, after.createdAt(), after.orderId(),
+                firstRows);
+
+        boolean hasNext = pageIds.size() > limit;
+        List<UUID> orderIds = hasNext ? pageIds.subList(0, limit) : pageIds;
+        if (orderIds.isEmpty()) {
+            return new OrderPage(List.of(), null);
+        }
+
+        // Fetch the full graphs separately, a fetch join cannot be combined with a row limit in SQL
+        Map<UUID, Order> ordersById = orderJpaRepository.findAllByIdWithItems(orderIds)
+                .stream()
+                .map(EntityMapper::mapOrderToDomain)
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<Order> orders = orderIds.stream().map(ordersById::get).toList();
+        return new OrderPage(orders, hasNext ? OrderCursor.of(orders.getLast()) : null);
+    }
+
     @Override
     @Transactional
-    public void updateOrderStatus(UUID orderId, OrderStatus status) {
+    public OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status) {
         log.debug("Updating order status with ID: {} for status {}", orderId, status);
-        orderJpaRepository.updateOrderStatus(orderId, status, LocalDateTime.now());
+        if (orderJpaRepository.updateOrderStatus(orderId, status, LocalDateTime.now(), status.predecessors()) == 0) {
+            return unchangedOrRefused(orderId, status);
+        }
         log.info("Order status updated with ID: {} for status {}", orderId,status);
+        return OrderStatusUpdateResult.UPDATED;
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, OrderStatusUpdateResult> updateOrderStatuses(Collection<UUID> orderIds, OrderStatus status) {
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        log.debug("Updating status of {} orders to {}", distinctIds.size(), status);
+
+        // The statements below bypass the persistence context, make what it holds visible to them
+        orderJpaRepository.flush();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String[] predecessors = status.predecessors().stream().map(OrderStatus::name).toArray(String[]::new);
+        Map<UUID, OrderStatusUpdateResult> results = new LinkedHashMap<>();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE,
+                    distinctIds.size()));
+
+            // Only the rows the guarded update changed are UPDATED, and get an event
+            Set<UUID> updatedIds = new HashSet<>(jdbcTemplate.query(updateStatusesReturningSql, statement -> {
+                statement.setString(1, status.name());
+                statement.setTimestamp(2, now);
+                statement.setArray(3, statement.getConnection().createArrayOf("uuid", chunk.toArray()));
+                statement.setArray(4, statement.getConnection().createArrayOf("varchar", predecessors));
+            }, (row, rowNum) -> row.getObject("id", UUID.class)));
+            updated += updatedIds.size();
+
+            // The status of the others tells an order already in the status from a refused or a missing one
+            Object[] leftIds = chunk.stream().filter(orderId -> !updatedIds.contains(orderId)).toArray();
+            Map<UUID, OrderStatus> statuses = new HashMap<>();
+            if (leftIds.length > 0) {
+                jdbcTemplate.query(SELECT_STATUSES_SQL,
+                        statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", leftIds)),
+                        (RowCallbackHandler) row -> statuses.put(row.getObject("id", UUID.class),
+                                OrderStatus.valueOf(row.getString("status"))));
+            }
+
+            for (UUID orderId : chunk) {
+                OrderStatus current = statuses.get(orderId);
+                results.put(orderId, updatedIds.contains(orderId) ? OrderStatusUpdateResult.UPDATED
+                        : current == null ? OrderStatusUpdateResult.NOT_FOUND
+                        : current == status ? OrderStatusUpdateResult.UNCHANGED
+                        : OrderStatusUpdateResult.REFUSED);
+            }
+        }
+
+        log.info("Order status {} set on {} of {} orders", status, updated, distinctIds.size());
+        return results;
+    }
+
+    // Only reached when an update matched no row, to tell a missing order from a repeated or a refused status
+    private OrderStatusUpdateResult unchangedOrRefused(UUID orderId, OrderStatus status) {
+        OrderStatus current = orderJpaRepository.findStatusById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + orderId, orderId));
+        if (current == status) {
+            log.info("Order with ID: {} already in status {}, unchanged", orderId, status);
+            return OrderStatusUpdateResult.UNCHANGED;
+        }
+        log.info("Order with ID: {} cannot move from status {} to {}, kept", orderId, current, status);
+        return OrderStatusUpdateResult.REFUSED;
     }
 
     @Override
@@ -103,7 +248,7 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
         log.debug("Fetching order with ID: {}", orderId);
 
-        return orderJpaRepository.findById(orderId)
+        return orderJpaRepository.findByIdWithItems(orderId)
                 .map(EntityMapper::mapOrderToDomain)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + orderId, orderId));
     }
@@ -125,30 +270,18 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
     private OrderEntity mapToEntity(Order order) {
 
-        OrderEntity orderEntity = new OrderEntity(order.getId(), CustomerEntity.fromDomain(order.getCustomer()), order.getTotal(), order.getStatus(),
+        OrderEntity orderEntity = new OrderEntity(order.getId(),
+                customerJpaRepository.getReferenceById(order.getCustomer().getId()), order.getTotal(), order.getStatus(),
                 order.getFirstName(), order.getLastName(), order.getPhoneNumber().number(), order.getEmail().email(),
                 order.getStreetNumber(), order.getStreet(), order.getCity(), order.getRegion(), order.getPostalCode(),
                 order.getCountry(), order.getCreatedAt(), order.getUpdatedAt());
 
-        // Retrieve all item IDs from the order's items.
-        Set<UUID> itemIds = order.getOrderItems().stream()
-                .map(model -> model.getItem().getId()).collect(Collectors.toSet());
-
-        // Use a single query to fetch all items.
-        List<ItemEntity> itemEntities = itemJpaRepository.findAllById(itemIds);
-
-        // Create a map for fast lookup by ID.
-        Map<UUID, ItemEntity> itemEntityMap = itemEntities.stream()
-                .collect(Collectors.toMap(ItemEntity::getId, Function.identity()));
-
-        // Iterate over each order item and build the OrderItemEntity objects.
+        // Items were already resolved when the order was assembled, so only reference them by id
+        // instead of loading them a second time.
         order.getOrderItems().forEach(orderItem -> {
-            ItemEntity itemEntity = itemEntityMap.get(orderItem.getItem().getId());
-            if (itemEntity == null) {
-                throw new RuntimeException("Item not found for id: " + orderItem.getItem().getId());
-            }
+            ItemEntity itemEntity = itemJpaRepository.getReferenceById(orderItem.getItem().getId());
             OrderItemEntity orderItemEntity = new OrderItemEntity();
-            orderItemEntity.setId(new OrderItemId(order.getId(), itemEntity.getId()));
+            orderItemEntity.setId(new OrderItemId(order.getId(), orderItem.getItem().getId()));
             orderItemEntity.setOrder(orderEntity);
             orderItemEntity.setItem(itemEntity);
             orderItemEntity.setQuantity(orderItem.getQuantity());
@@ -0,0 +1,72 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Rate limit buckets stored as their theoretical arrival time, in epoch milliseconds. Every change is a single
+ * conditional statement, so concurrent requests from several nodes never lose an update. Statements run outside any
+ * transaction: they are atomic on their own and a refused insert must not abort anything else.
+ */
+@Repository
+public class RateLimitBucketRepositoryAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitBucketRepositoryAdapter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RateLimitBucketRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Takes one token from an existing bucket, if it has one left at {@code now}.
+     *
+     * @return whether a token was taken
+     */
+    public boolean take(String bucketKey, long now, long interval, long tolerance) {
+        return jdbcTemplate.update("""
+                        UPDATE rate_limit_buckets
+                        SET theoretical_arrival = GREATEST(theoretical_arrival, ?) + ?
+                        WHERE bucket_key = ? AND GREATEST(theoretical_arrival, ?) - ? <= ?""",
+                now, interval, bucketKey, now, tolerance, now) == 1;
+    }
+
+    /**
+     * Creates a bucket.
+     *
+     * @return false if another request created it first
+     */
+    public boolean create(String bucketKey, long theoreticalArrival) {
+        try {
+            jdbcTemplate.update("INSERT INTO rate_limit_buckets (bucket_key, theoretical_arrival) VALUES (?, ?)",
+                    bucketKey, theoreticalArrival);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<Long> findTheoreticalArrival(String bucketKey) {
+        return jdbcTemplate.queryForList(
+                        "SELECT theoretical_arrival FROM rate_limit_buckets WHERE bucket_key = ?", Long.class, bucketKey)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Deletes buckets full again at {@code now}: they are no different from a bucket that does not exist.
+     */
+    public int deleteFullBuckets(long now) {
+        int deleted = jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE theoretical_arrival <= ?", now);
+        if (deleted > 0) {
+            log.debug("Deleted {} full rate limit buckets", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import com.bynature.adapters.out.persistence.jpa.entity.RefreshTokenEntity;
+import com.bynature.adapters.out.persistence.jpa.repository.RefreshTokenJpaRepository;
+import com.bynature.domain.model.RefreshToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class RefreshTokenRepositoryAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenRepositoryAdapter.class);
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    public RefreshTokenRepositoryAdapter(RefreshTokenJpaRepository refreshTokenJpaRepository) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+    }
+
+    @Transactional
+    public void save(RefreshToken refreshToken) {
+        refreshTokenJpaRepository.save(RefreshTokenEntity.fromDomain(refreshToken));
+    }
+
+    /**
+     * Marks the token used, only if it is neither used, revoked nor expired: of two concurrent refreshes with the same
+     * token, only one succeeds.
+     *
+     * @return whether the token could be used
+     */
+    @Transactional
+    public boolean markUsed(UUID tokenId) {
+        return refreshTokenJpaRepository.markUsed(tokenId, LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public void revokeFamily(UUID familyId) {
+        int revoked = refreshTokenJpaRepository.revokeFamily(familyId, LocalDateTime.now());
+        log.info("Revoked {} refresh tokens of family {}", revoked, familyId);
+    }
+
+    /**
+     * @return the families revoked
+     */
+    @Transactional
+    public List<UUID> revokeAppClient(String appClientId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> families = refreshTokenJpaRepository.findActiveFamilies(appClientId, now);
+        families.forEach(familyId -> refreshTokenJpaRepository.revokeFamily(familyId, now));
+        log.info("Revoked {} refresh token families of client {}", families.size(), appClientId);
+        return families;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findRevokedFamilies() {
+        return refreshTokenJpaRepository.findRevokedFamilies(LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isFamilyRevoked(UUID familyId) {
+        return refreshTokenJpaRepository.existsByFamilyIdAndRevokedAtIsNotNull(familyId);
+    }
+
+    @Transactional
+    public int deleteExpiredBefore(LocalDateTime cutoff) {
+        return refreshTokenJpaRepository.deleteExpiredBefore(cutoff);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+public class StripeWebhookEventRepositoryAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(StripeWebhookEventRepositoryAdapter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StripeWebhookEventRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records the event as processed, in the caller's transaction. A concurrent delivery of the same event waits on the
+     * row until that transaction ends.
+     *
+     * @return false if the event was already recorded
+     */
+    @Transactional
+    public boolean record(String eventId, String eventType, LocalDateTime processedAt) {
+        // ON CONFLICT rather than a duplicate key error, which would abort the whole transaction on PostgreSQL
+        return jdbcTemplate.update("""
+                        INSERT INTO stripe_webhook_events (event_id, event_type, processed_at) VALUES (?, ?, ?)
+                        ON CONFLICT DO NOTHING""",
+                eventId, eventType, Timestamp.valueOf(processedAt)) == 1;
+    }
+
+    @Transactional
+    public int deleteProcessedBefore(LocalDateTime cutoff) {
+        int deleted = jdbcTemplate.update("DELETE FROM stripe_webhook_events WHERE processed_at < ?",
+                Timestamp.valueOf(cutoff));
+        log.info("Deleted {} Stripe events processed before {}", deleted, cutoff);
+        return deleted;
+    }
+}
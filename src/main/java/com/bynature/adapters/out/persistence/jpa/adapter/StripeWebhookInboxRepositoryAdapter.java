@@ -0,0 +1,117 @@
+package com.bynature.adapters.out.persistence.jpa.adapter;
+
+import com.bynature.domain.model.StripeInboxEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stripe events waiting to be applied. An event is due once its {@code next_attempt_at} is reached; a worker leases it
+ * by pushing that time forward, so every change is a single conditional statement and several nodes can drain the
+ * inbox together. Statements run in the caller's transaction, if any.
+ */
+@Repository
+public class StripeWebhookInboxRepositoryAdapter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<StripeInboxEvent> INBOX_EVENT_MAPPER = (rs, rowNum) -> new StripeInboxEvent(
+            rs.getString("event_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("received_at").toLocalDateTime(),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StripeWebhookInboxRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stores an event, due right away.
+     *
+     * @return false if the event is already waiting
+     */
+    public boolean enqueue(String eventId, String eventType, String payload, LocalDateTime receivedAt) {
+        Timestamp now = Timestamp.valueOf(receivedAt);
+        return jdbcTemplate.update("""
+                        INSERT INTO stripe_webhook_inbox (event_id, event_type, payload, received_at, next_attempt_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        ON CONFLICT DO NOTHING""",
+                eventId, eventType, payload, now, now) == 1;
+    }
+
+    /**
+     * Claims up to {@code limit} events due at {@code now}, longest waiting first. Each one is leased until
+     * {@code leaseUntil} and its attempt counted; an event whose lease another worker took in the meantime is left out.
+     *
+     * @return the claimed events, with their attempt counted
+     */
+    public List<StripeInboxEvent> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<StripeInboxEvent> due = new ArrayList<>();
+        List<Object[]> leases = new ArrayList<>();
+        jdbcTemplate.query("""
+                        SELECT event_id, event_type, payload, received_at, attempts, next_attempt_at
+                        FROM stripe_webhook_inbox
+                        WHERE next_attempt_at <= ?
+                        ORDER BY next_attempt_at
+                        LIMIT ?""",
+                rs -> {
+                    due.add(INBOX_EVENT_MAPPER.mapRow(rs, due.size()));
+                    leases.add(new Object[]{Timestamp.valueOf(leaseUntil), rs.getString("event_id"),
+                            rs.getTimestamp("next_attempt_at")});
+                },
+                Timestamp.valueOf(now), limit);
+
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        int[] leased = jdbcTemplate.batchUpdate("""
+                UPDATE stripe_webhook_inbox SET next_attempt_at = ?, attempts = attempts + 1
+                WHERE event_id = ? AND next_attempt_at = ?""", leases);
+
+        List<StripeInboxEvent> claimed = new ArrayList<>(due.size());
+        for (int i = 0; i < due.size(); i++) {
+            if (leased[i] == 1) {
+                StripeInboxEvent event = due.get(i);
+                claimed.add(new StripeInboxEvent(event.eventId(), event.eventType(), event.payload(),
+                        event.receivedAt(), event.attempts() + 1));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Removes an applied event.
+     */
+    public boolean delete(String eventId) {
+        return jdbcTemplate.update("DELETE FROM stripe_webhook_inbox WHERE event_id = ?", eventId) == 1;
+    }
+
+    /**
+     * Makes a failed event due again at {@code nextAttemptAt}.
+     */
+    public void reschedule(String eventId, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("UPDATE stripe_webhook_inbox SET next_attempt_at = ?, last_error = ? WHERE event_id = ?",
+                Timestamp.valueOf(nextAttemptAt), truncate(error), eventId);
+    }
+
+    /**
+     * Sets a failed event aside: it stays in the inbox, for an operator to look into, but is no longer due.
+     */
+    public void park(String eventId, String error) {
+        jdbcTemplate.update("UPDATE stripe_webhook_inbox SET next_attempt_at = NULL, last_error = ? WHERE event_id = ?",
+                truncate(error), eventId);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
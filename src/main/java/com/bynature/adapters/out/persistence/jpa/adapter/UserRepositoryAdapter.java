@@ -11,10 +11,14 @@ import com.bynature.domain.model.User;
 import com.bynature.domain.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,12 +26,19 @@ import java.util.UUID;
 public class UserRepositoryAdapter implements UserRepository {
 
     private static final Logger log = LoggerFactory.getLogger(UserRepositoryAdapter.class);
+
+    private static final String UPDATE_LAST_LOGIN_SQL = "UPDATE users SET last_login_at = ?, updated_at = ?" +
+            " WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
     private final UserJpaRepository userJpaRepository;
     private final CustomerJpaRepository customerJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public UserRepositoryAdapter(UserJpaRepository userJpaRepository, CustomerJpaRepository customerJpaRepository) {
+    public UserRepositoryAdapter(UserJpaRepository userJpaRepository, CustomerJpaRepository customerJpaRepository,
+                                 JdbcTemplate jdbcTemplate) {
         this.userJpaRepository = userJpaRepository;
         this.customerJpaRepository = customerJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -100,10 +111,10 @@ public class UserRepositoryAdapter implements UserRepository {
     public void updateUserActiveStatus(UUID userId, boolean active) {
         log.debug("Updating active status to {} for user ID: {}", active, userId);
 
-        // Verify user exists
-        getUser(userId);
-
-        userJpaRepository.updateUserActiveStatus(userId, active, LocalDateTime.now());
+        // A single statement: no row updated means no such user
+        if (userJpaRepository.updateUserActiveStatus(userId, active, LocalDateTime.now()) == 0) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
 
         log.info("User active status updated for ID: {}", userId);
     }
@@ -113,15 +124,40 @@ public class UserRepositoryAdapter implements UserRepository {
     public void updateUserLastLogin(UUID userId) {
         log.debug("Updating last login time for user ID: {}", userId);
 
-        // Verify user exists
-        getUser(userId);
-
         LocalDateTime now = LocalDateTime.now();
-        userJpaRepository.updateUserLastLogin(userId, now, now);
+        if (userJpaRepository.updateUserLastLogin(userId, now, now) == 0) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
 
         log.info("User last login updated for ID: {}", userId);
     }
 
+    @Transactional
+    @Override
+    public void updateUsersLastLogin(Map<UUID, LocalDateTime> lastLogins) {
+        log.debug("Updating last login time for {} users", lastLogins.size());
+
+        // One JDBC batch; users deleted in the meantime simply match no row
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, new ArrayList<>(lastLogins.entrySet()), lastLogins.size(),
+                (statement, lastLogin) -> {
+                    Timestamp loggedInAt = Timestamp.valueOf(lastLogin.getValue());
+                    statement.setTimestamp(1, loggedInAt);
+                    statement.setTimestamp(2, Timestamp.valueOf(now));
+                    statement.setObject(3, lastLogin.getKey());
+                    statement.setTimestamp(4, loggedInAt);
+                });
+    }
+
+    @Transactional
+    @Override
+    public boolean replacePasswordHash(UUID userId, String currentHash, String newHash) {
+        // Conditional on the old hash: a password changed concurrently is not overwritten with the old one
+        boolean replaced = userJpaRepository.replacePasswordHash(userId, currentHash, newHash, LocalDateTime.now()) == 1;
+        log.debug("Password hash of user ID {} {}", userId, replaced ? "replaced" : "changed concurrently, kept");
+        return replaced;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Optional<User> getUserByCustomerId(UUID customerId) {
@@ -0,0 +1,64 @@
+package com.bynature.adapters.out.persistence.jpa.entity;
+
+import com.bynature.domain.model.SigningKey;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jwk_keys")
+@Valid
+public class JwkKeyEntity {
+    @Id
+    @NotNull(message = "Key ID cannot be null")
+    private String kid;
+
+    @Column(nullable = false, length = 8192)
+    @NotNull(message = "Key material cannot be null")
+    private String jwk;
+
+    @Column(nullable = false)
+    @NotNull(message = "Key creation date cannot be null")
+    private LocalDateTime createdAt;
+
+    public String getKid() {
+        return kid;
+    }
+
+    public void setKid(String kid) {
+        this.kid = kid;
+    }
+
+    public String getJwk() {
+        return jwk;
+    }
+
+    public void setJwk(String jwk) {
+        this.jwk = jwk;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public SigningKey toDomain() {
+        return new SigningKey(kid, jwk, createdAt);
+    }
+
+    public static JwkKeyEntity fromDomain(SigningKey signingKey) {
+        JwkKeyEntity entity = new JwkKeyEntity();
+        entity.setKid(signingKey.keyId());
+        entity.setJwk(signingKey.jwk());
+        entity.setCreatedAt(signingKey.createdAt());
+        return entity;
+    }
+}
@@ -12,7 +12,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -20,6 +23,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.JdbcType;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,7 +33,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "orders")
 @Valid
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -102,6 +106,10 @@ public class OrderEntity {
     @NotNull(message = "Updated date cannot be null")
     private LocalDateTime updatedAt;
 
+    // Ids are assigned by the domain, so Spring Data cannot tell a new order from an existing one
+    @Transient
+    private boolean newEntity;
+
     public OrderEntity(UUID id, CustomerEntity customer, double total, OrderStatus status, String firstName, String lastName, String phoneNumber, String email, String streetNumber, String street, String city, String region, String postalCode, String country, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.customer = customer;
@@ -272,6 +280,24 @@ public class OrderEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Flags this entity as not yet persisted so that saving it issues a plain insert.
+     */
+    public void markNew() {
+        this.newEntity = true;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     // Helper to add order items
     public void addOrderItem(OrderItemEntity orderItem) {
         orderItems.add(orderItem);
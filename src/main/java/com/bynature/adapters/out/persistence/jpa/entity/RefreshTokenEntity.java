@@ -0,0 +1,107 @@
+package com.bynature.adapters.out.persistence.jpa.entity;
+
+import com.bynature.domain.model.RefreshToken;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "refresh_tokens")
+@Valid
+public class RefreshTokenEntity {
+    @Id
+    @NotNull(message = "Refresh token ID cannot be null")
+    private UUID id;
+
+    @Column(nullable = false)
+    @NotNull(message = "Refresh token family cannot be null")
+    private UUID familyId;
+
+    @Column(nullable = false)
+    @NotNull(message = "Application client ID cannot be null")
+    private String appClientId;
+
+    @Column(nullable = false)
+    @NotNull(message = "Refresh token creation date cannot be null")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @NotNull(message = "Refresh token expiry date cannot be null")
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;
+
+    private LocalDateTime revokedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(UUID familyId) {
+        this.familyId = familyId;
+    }
+
+    public String getAppClientId() {
+        return appClientId;
+    }
+
+    public void setAppClientId(String appClientId) {
+        this.appClientId = appClientId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getUsedAt() {
+        return usedAt;
+    }
+
+    public void setUsedAt(LocalDateTime usedAt) {
+        this.usedAt = usedAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(LocalDateTime revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public static RefreshTokenEntity fromDomain(RefreshToken refreshToken) {
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setId(refreshToken.tokenId());
+        entity.setFamilyId(refreshToken.familyId());
+        entity.setAppClientId(refreshToken.appClientId());
+        entity.setCreatedAt(refreshToken.createdAt());
+        entity.setExpiresAt(refreshToken.expiresAt());
+        return entity;
+    }
+}
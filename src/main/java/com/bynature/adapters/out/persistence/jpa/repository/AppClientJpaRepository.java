@@ -2,10 +2,17 @@ package com.bynature.adapters.out.persistence.jpa.repository;
 
 import com.bynature.adapters.out.persistence.jpa.entity.AppClientEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface AppClientJpaRepository extends JpaRepository<AppClientEntity, UUID> {
     List<AppClientEntity> findByAppClientId(String appClientId);
+
+    @Modifying
+    @Query("UPDATE AppClientEntity c SET c.active = false WHERE c.appClientId = :appClientId AND c.active = true")
+    int deactivateByAppClientId(@Param("appClientId") String appClientId);
 }
@@ -2,9 +2,35 @@ package com.bynature.adapters.out.persistence.jpa.repository;
 
 import com.bynature.adapters.out.persistence.jpa.entity.ItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 
-public interface ItemJpaRepository  extends JpaRepository<ItemEntity, UUID>{
+public interface ItemJpaRepository  extends JpaRepository<ItemEntity, UUID>, JpaSpecificationExecutor<ItemEntity> {
+
+    // PostgreSQL only: prefix matches on search_vector, ranked with name hits above description hits
+    @Query(value = "SELECT i.id, i.name, i.description, i.price, i.image_url, i.created_at, i.updated_at" +
+            " FROM items i" +
+            " WHERE i.search_vector @@ to_tsquery('simple', :tsQuery)" +
+            " ORDER BY ts_rank_cd(i.search_vector, to_tsquery('simple', :tsQuery)) DESC, i.id" +
+            " LIMIT :limit", nativeQuery = true)
+    List<ItemEntity> searchByText(String tsQuery, int limit);
+
+    // PostgreSQL only: typo-tolerant trigram matches on the name, backed by idx_items_name_trgm
+    @Query(value = "SELECT i.id, i.name, i.description, i.price, i.image_url, i.created_at, i.updated_at" +
+            " FROM items i" +
+            " WHERE :text <% i.name" +
+            " ORDER BY word_similarity(:text, i.name) DESC, i.id" +
+            " LIMIT :limit", nativeQuery = true)
+    List<ItemEntity> searchByNameSimilarity(String text, int limit);
+
+    // Portable fallback for databases without full-text search
+    @Query("SELECT i FROM ItemEntity i" +
+            " WHERE lower(i.name) LIKE :pattern ESCAPE '\\' OR lower(i.description) LIKE :pattern ESCAPE '\\'" +
+            " ORDER BY i.name, i.id")
+    List<ItemEntity> findByNameOrDescriptionLike(String pattern, Pageable pageable);
 }
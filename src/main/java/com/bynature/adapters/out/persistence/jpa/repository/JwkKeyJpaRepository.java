@@ -0,0 +1,19 @@
+package com.bynature.adapters.out.persistence.jpa.repository;
+
+import com.bynature.adapters.out.persistence.jpa.entity.JwkKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JwkKeyJpaRepository extends JpaRepository<JwkKeyEntity, String> {
+
+    List<JwkKeyEntity> findAllByOrderByCreatedAtDesc();
+
+    @Modifying
+    @Query("DELETE FROM JwkKeyEntity k WHERE k.createdAt < :cutoff AND k.kid <> :keepKid")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("keepKid") String keepKid);
+}
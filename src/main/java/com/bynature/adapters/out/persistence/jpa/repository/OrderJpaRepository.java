@@ -9,21 +9,66 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID>  {
 
+    // Conditional on the current status, see OrderStatus#predecessors
     @Modifying
     @Query("UPDATE OrderEntity o SET o.paymentIntentId = :paymentIntentId, o.status = :status," +
-            " o.updatedAt = :updatedAt WHERE o.id = :orderId")
-    void updateOrderStatus(UUID orderId,  OrderStatus status, String paymentIntentId,
-                                           LocalDateTime updatedAt);
+            " o.updatedAt = :updatedAt WHERE o.id = :orderId AND o.status IN :predecessors")
+    int updateOrderStatus(UUID orderId,  OrderStatus status, String paymentIntentId,
+                                           LocalDateTime updatedAt, Collection<OrderStatus> predecessors);
 
     @Modifying
-    @Query("UPDATE OrderEntity o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id = :orderId")
-    void updateOrderStatus(UUID orderId, OrderStatus status, LocalDateTime updatedAt);
+    @Query("UPDATE OrderEntity o SET o.status = :status, o.updatedAt = :updatedAt" +
+            " WHERE o.id = :orderId AND o.status IN :predecessors")
+    int updateOrderStatus(UUID orderId, OrderStatus status, LocalDateTime updatedAt,
+                          Collection<OrderStatus> predecessors);
+
+    @Query("SELECT o.status FROM OrderEntity o WHERE o.id = :orderId")
+    Optional<OrderStatus> findStatusById(UUID orderId);
+
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.paymentIntentId = :paymentIntentId, o.updatedAt = :updatedAt" +
+            " WHERE o.id = :orderId AND o.paymentIntentId IS NULL")
+    int updateMissingPaymentIntentId(UUID orderId, String paymentIntentId, LocalDateTime updatedAt);
+
+    // Load the order with its lines, items, customer and user in a single statement
+    @Query("SELECT o FROM OrderEntity o" +
+            " JOIN FETCH o.customer c JOIN FETCH c.user" +
+            " LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.item" +
+            " WHERE o.id = :orderId")
+    Optional<OrderEntity> findByIdWithItems(UUID orderId);
+
+    // Same graph as findByIdWithItems for every order of a customer, still a single statement
+    @Query("SELECT DISTINCT o FROM OrderEntity o" +
+            " JOIN FETCH o.customer c JOIN FETCH c.user" +
+            " LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.item" +
+            " WHERE c.id = :customerId")
+    List<OrderEntity> findByCustomerIdWithItems(UUID customerId);
+
+    // Same graph as findByIdWithItems for a set of orders, used to hydrate a page of ids
+    @Query("SELECT DISTINCT o FROM OrderEntity o" +
+            " JOIN FETCH o.customer c JOIN FETCH c.user" +
+            " LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.item" +
+            " WHERE o.id IN :orderIds")
+    List<OrderEntity> findAllByIdWithItems(Collection<UUID> orderIds);
+
+    // Keyset pagination over (created_at desc, id), backed by idx_orders_customer_created_at
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.customer.id = :customerId" +
+            " ORDER BY o.createdAt DESC, o.id")
+    List<UUID> findPageIdsByCustomerId(UUID customerId, Pageable pageable);
+
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.customer.id = :customerId" +
+            " AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id > :orderId))" +
+            " ORDER BY o.createdAt DESC, o.id")
+    List<UUID> findPageIdsByCustomerIdAfter(UUID customerId, LocalDateTime createdAt, UUID orderId,
+                                            Pageable pageable);
 
     // Fix naming: use customer.id to match entity relationship structure
     @Query("SELECT o FROM OrderEntity o WHERE o.customer.id = :customerId")
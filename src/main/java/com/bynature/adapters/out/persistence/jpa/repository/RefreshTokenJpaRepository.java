@@ -0,0 +1,36 @@
+package com.bynature.adapters.out.persistence.jpa.repository;
+
+import com.bynature.adapters.out.persistence.jpa.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.usedAt = :now WHERE t.id = :id" +
+            " AND t.usedAt IS NULL AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int markUsed(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT t.familyId FROM RefreshTokenEntity t WHERE t.appClientId = :appClientId" +
+            " AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    List<UUID> findActiveFamilies(@Param("appClientId") String appClientId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT t.familyId FROM RefreshTokenEntity t WHERE t.revokedAt IS NOT NULL AND t.expiresAt > :now")
+    List<UUID> findRevokedFamilies(@Param("now") LocalDateTime now);
+
+    boolean existsByFamilyIdAndRevokedAtIsNotNull(UUID familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
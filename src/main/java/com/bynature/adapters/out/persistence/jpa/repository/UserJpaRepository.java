@@ -1,6 +1,7 @@
 package com.bynature.adapters.out.persistence.jpa.repository;
 
 import com.bynature.adapters.out.persistence.jpa.entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,15 +11,22 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
+    // Login path: the customer is needed for the token, load it in the same query
+    @EntityGraph(attributePaths = "customer")
     Optional<UserEntity> findByEmail(String email);
 
     @Modifying
     @Query("UPDATE UserEntity u SET u.active = :active, u.updatedAt = :updatedAt WHERE u.id = :userId")
-    void updateUserActiveStatus(UUID userId, boolean active, LocalDateTime updatedAt);
+    int updateUserActiveStatus(UUID userId, boolean active, LocalDateTime updatedAt);
 
     @Modifying
     @Query("UPDATE UserEntity u SET u.lastLoginAt = :lastLoginAt, u.updatedAt = :updatedAt WHERE u.id = :userId")
-    void updateUserLastLogin(UUID userId, LocalDateTime lastLoginAt, LocalDateTime updatedAt);
+    int updateUserLastLogin(UUID userId, LocalDateTime lastLoginAt, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :newHash, u.updatedAt = :updatedAt "
+            + "WHERE u.id = :userId AND u.password = :currentHash")
+    int replacePasswordHash(UUID userId, String currentHash, String newHash, LocalDateTime updatedAt);
 
     Optional<UserEntity> findByCustomer_Id(UUID customerId);
 }
\ No newline at end of file
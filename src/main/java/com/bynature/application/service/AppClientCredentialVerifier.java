@@ -0,0 +1,147 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.AppClientRepositoryAdapter;
+import com.bynature.config.security.AccountRateLimiter;
+import com.bynature.domain.model.AppClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verifies app-client credentials. BCrypt runs once per client and secret: a secret that passed is remembered as an
+ * HMAC under a key that only lives in this process, so later requests cost one HMAC instead of one BCrypt. Entries
+ * expire, and are dropped as soon as the client is deactivated through {@link #invalidate(String)}. Secrets that have
+ * to be checked against the stored hash are limited per client by the {@link AccountRateLimiter}.
+ */
+@Service
+public class AppClientCredentialVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(AppClientCredentialVerifier.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AppClientRepositoryAdapter appClientRepositoryAdapter;
+    private final PasswordEncoder passwordEncoder;
+    private final AccountRateLimiter accountRateLimiter;
+    private final SecretKeySpec hmacKey;
+    private final Cache<String, VerifiedClient> verifiedClients;
+    private final Timer cacheHitTimer;
+    private final Timer passwordCheckTimer;
+    private final Timer rejectedTimer;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record VerifiedClient(AppClient client, byte[] secretMac) {
+    }
+
+    public AppClientCredentialVerifier(AppClientRepositoryAdapter appClientRepositoryAdapter,
+                                       PasswordEncoder passwordEncoder,
+                                       AccountRateLimiter accountRateLimiter,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${application.cache.app-clients.maximum-size:1000}") long maximumSize,
+                                       @Value("${application.cache.app-clients.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.appClientRepositoryAdapter = appClientRepositoryAdapter;
+        this.passwordEncoder = passwordEncoder;
+        this.accountRateLimiter = accountRateLimiter;
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+
+        this.verifiedClients = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClients, "app-clients.credentials");
+
+        this.cacheHitTimer = verificationTimer(meterRegistry, "cache");
+        this.passwordCheckTimer = verificationTimer(meterRegistry, "password");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+    }
+
+    /**
+     * @return the active client these credentials belong to, or empty if they do not match one
+     * @throws com.bynature.config.security.RateLimitExceededException if the client has used up its secret checks
+     */
+    public Optional<AppClient> verify(String appClientId, String appClientSecret) {
+        if (appClientId == null || appClientSecret == null) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        byte[] secretMac = mac(appClientId, appClientSecret);
+
+        VerifiedClient verified = verifiedClients.getIfPresent(appClientId);
+        if (verified != null && MessageDigest.isEqual(verified.secretMac(), secretMac)) {
+            cacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(verified.client());
+        }
+
+        // Only checks against the stored hash count: a client presenting its remembered secret is never held back
+        accountRateLimiter.acquireClientToken(appClientId);
+
+        long invalidationsBefore = invalidations.get();
+
+        // Unknown, expired, or a different secret than the one remembered (it may have been rotated): check for real
+        Optional<AppClient> client = appClientRepositoryAdapter.findByAppClientId(appClientId).stream()
+                .filter(AppClient::isActive)
+                .filter(candidate -> passwordEncoder.matches(appClientSecret, candidate.getAppClientSecret()))
+                .findFirst();
+
+        if (client.isPresent()) {
+            // A deactivation that raced with the read above must not be undone by remembering the stale client
+            if (invalidations.get() == invalidationsBefore) {
+                verifiedClients.put(appClientId, new VerifiedClient(client.get(), secretMac));
+            }
+            passwordCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } else {
+            log.debug("Client {} authentication failed", appClientId);
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return client;
+    }
+
+    public void invalidate(String appClientId) {
+        invalidations.incrementAndGet();
+        verifiedClients.invalidate(appClientId);
+        log.debug("Evicted verified credentials of client {}", appClientId);
+    }
+
+    private byte[] mac(String appClientId, String appClientSecret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            // The client id is part of the input so a remembered MAC only ever vouches for its own client
+            mac.update(appClientId.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(appClientSecret.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.client.verification")
+                .description("Time spent verifying app-client credentials")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
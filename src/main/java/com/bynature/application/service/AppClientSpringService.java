@@ -5,17 +5,39 @@ import com.bynature.domain.model.AppClient;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class AppClientSpringService {
 
     private final AppClientRepositoryAdapter clientRepositoryAdapter;
+    private final AppClientCredentialVerifier credentialVerifier;
+    private final RefreshTokenService refreshTokenService;
 
-    public AppClientSpringService(AppClientRepositoryAdapter clientRepository) {
+    public AppClientSpringService(AppClientRepositoryAdapter clientRepository,
+                                  AppClientCredentialVerifier credentialVerifier,
+                                  RefreshTokenService refreshTokenService) {
         this.clientRepositoryAdapter = clientRepository;
+        this.credentialVerifier = credentialVerifier;
+        this.refreshTokenService = refreshTokenService;
     }
 
     public List<AppClient> findByAppClientId(String appClientId) {
         return clientRepositoryAdapter.findByAppClientId(appClientId);
     }
+
+    public Optional<AppClient> authenticate(String appClientId, String appClientSecret) {
+        return credentialVerifier.verify(appClientId, appClientSecret);
+    }
+
+    /**
+     * Deactivates the client, forgets its verified credentials and revokes its tokens, so neither its secret nor the
+     * tokens it holds work any longer.
+     */
+    public boolean deactivate(String appClientId) {
+        boolean deactivated = clientRepositoryAdapter.deactivate(appClientId);
+        credentialVerifier.invalidate(appClientId);
+        refreshTokenService.revokeAppClient(appClientId);
+        return deactivated;
+    }
 }
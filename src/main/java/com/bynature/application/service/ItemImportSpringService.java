@@ -0,0 +1,124 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.exception.ItemValidationException;
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemImportReport;
+import com.bynature.domain.model.ItemImportRow;
+import com.bynature.domain.repository.ItemRepository;
+import com.bynature.domain.service.ItemImportService;
+import com.bynature.domain.service.ItemSuggestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Imports supplier feeds row by row. Valid rows are written in batches, each batch in its own transaction, so memory
+ * stays bounded whatever the feed size; invalid rows are reported and skipped.
+ */
+@Service
+public class ItemImportSpringService implements ItemImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemImportSpringService.class);
+
+    // Width of the items text columns
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final ItemRepository itemRepository;
+    private final ItemSuggestionService itemSuggestionService;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ItemImportSpringService(ItemRepository itemRepository,
+                                   ItemSuggestionService itemSuggestionService,
+                                   @Value("${application.items.import.batch-size:1000}") int batchSize,
+                                   @Value("${application.items.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.itemRepository = itemRepository;
+        this.itemSuggestionService = itemSuggestionService;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ItemImportReport importItems(Stream<ItemImportRow> rows) {
+        List<Item> batch = new ArrayList<>(batchSize);
+        List<ItemImportReport.RowError> errors = new ArrayList<>();
+        long total = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        try {
+            Iterator<ItemImportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ItemImportRow row = iterator.next();
+                total++;
+
+                List<String> violations = new ArrayList<>();
+                Item item = toItem(row, violations);
+                if (item == null) {
+                    rejected++;
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(new ItemImportReport.RowError(row.line(), List.copyOf(violations)));
+                    }
+                    continue;
+                }
+
+                batch.add(item);
+                if (batch.size() == batchSize) {
+                    itemRepository.saveItems(batch);
+                    imported += batch.size();
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                itemRepository.saveItems(batch);
+                imported += batch.size();
+            }
+        } finally {
+            // Also after a failure, batches written so far must show up in suggestions
+            if (imported > 0) {
+                itemSuggestionService.rebuild();
+            }
+        }
+
+        log.info("Item import finished: {} rows, {} imported, {} rejected", total, imported, rejected);
+        return new ItemImportReport(total, imported, rejected, List.copyOf(errors));
+    }
+
+    private static Item toItem(ItemImportRow row, List<String> violations) {
+        if (row.error() != null) {
+            violations.add(row.error());
+            return null;
+        }
+
+        if (row.price() == null) {
+            violations.add("Item price is required");
+        }
+        checkLength("name", row.name(), violations);
+        checkLength("description", row.description(), violations);
+        checkLength("image URL", row.imageUrl(), violations);
+
+        try {
+            Item item = new Item(row.name(), row.description(), row.price() == null ? 0 : row.price(), row.imageUrl());
+            return violations.isEmpty() ? item : null;
+        } catch (ItemValidationException e) {
+            // Report the domain rules along with the checks above, without duplicates for a missing price
+            e.getViolations().stream()
+                    .filter(violation -> row.price() != null || !violation.contains("price"))
+                    .forEach(violations::add);
+            return null;
+        }
+    }
+
+    private static void checkLength(String field, String value, List<String> violations) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            violations.add("Item " + field + " cannot exceed " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+}
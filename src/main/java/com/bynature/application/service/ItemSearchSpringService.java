@@ -0,0 +1,31 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.exception.ItemValidationException;
+import com.bynature.domain.model.Item;
+import com.bynature.domain.repository.ItemSearchRepository;
+import com.bynature.domain.service.ItemSearchService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ItemSearchSpringService implements ItemSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final ItemSearchRepository itemSearchRepository;
+
+    public ItemSearchSpringService(ItemSearchRepository itemSearchRepository) {
+        this.itemSearchRepository = itemSearchRepository;
+    }
+
+    public List<Item> searchItems(String text, int limit) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        if (text.length() > MAX_QUERY_LENGTH) {
+            throw new ItemValidationException(List.of("Search text cannot exceed " + MAX_QUERY_LENGTH + " characters"));
+        }
+        return itemSearchRepository.searchItems(text.trim(), limit);
+    }
+}
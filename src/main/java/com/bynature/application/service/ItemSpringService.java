@@ -1,11 +1,16 @@
 package com.bynature.application.service;
 
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
 import com.bynature.domain.repository.ItemRepository;
 import com.bynature.domain.service.ItemService;
+import com.bynature.domain.service.ItemSuggestionService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,30 +18,44 @@ import java.util.UUID;
 public class ItemSpringService implements ItemService {
 
     private final ItemRepository itemRepository;
+    private final ItemSuggestionService itemSuggestionService;
 
-    public ItemSpringService(ItemRepository itemRepository) {
+    public ItemSpringService(ItemRepository itemRepository, ItemSuggestionService itemSuggestionService) {
         this.itemRepository = itemRepository;
+        this.itemSuggestionService = itemSuggestionService;
     }
 
     public UUID createItem(Item item) {
-        return itemRepository.saveItem(item);
+        UUID itemId = itemRepository.saveItem(item);
+        itemSuggestionService.indexItem(item);
+        return itemId;
     }
 
     public void updateItem(Item item) {
         item.setUpdatedAt(LocalDateTime.now());
         itemRepository.updateItem(item);
+        itemSuggestionService.indexItem(item);
     }
 
     public Item getItem(UUID itemId) {
         return itemRepository.getItem(itemId);
     }
 
+    public List<Item> getItems(Collection<UUID> itemIds) {
+        return itemRepository.getItems(itemIds);
+    }
+
     public void deleteItem(UUID itemId) {
         itemRepository.deleteItem(itemId);
+        itemSuggestionService.removeItem(itemId);
     }
 
     public List<Item> getAllItems() {
         return itemRepository.getAllItems();
     }
 
+    public ItemPage searchItems(ItemSearchCriteria criteria, ItemCursor after, int limit) {
+        return itemRepository.searchItems(criteria, after, limit);
+    }
+
 }
@@ -0,0 +1,209 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemSuggestion;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over item names.
+ * <p>
+ * Entries are sorted by normalized name and packed into a handful of flat arrays (UTF-8 bytes plus offsets, ids as
+ * pairs of longs) rather than one object per entry, which keeps a million names in a few tens of megabytes and
+ * lookups to a binary search. Unsigned UTF-8 byte order is code point order, so the byte comparison matches
+ * string ordering. Changes return a new index; they copy the arrays, which is fine for a catalog that changes a few
+ * times a day, and bulk loads go through {@link #of(Collection)}.
+ */
+final class ItemSuggestionIndex {
+
+    static final ItemSuggestionIndex EMPTY = new ItemSuggestionIndex(new byte[0], new int[1], new byte[0], new int[1],
+            new long[0]);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final byte[] keys;
+    private final int[] keyOffsets;
+    private final byte[] names;
+    private final int[] nameOffsets;
+    private final long[] ids;
+
+    private ItemSuggestionIndex(byte[] keys, int[] keyOffsets, byte[] names, int[] nameOffsets, long[] ids) {
+        this.keys = keys;
+        this.keyOffsets = keyOffsets;
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.ids = ids;
+    }
+
+    static ItemSuggestionIndex of(Collection<Item> items) {
+        record Entry(byte[] key, byte[] name, UUID id) {
+        }
+
+        List<Entry> entries = new ArrayList<>(items.size());
+        for (Item item : items) {
+            entries.add(new Entry(keyOf(item.getName()), item.getName().getBytes(StandardCharsets.UTF_8), item.getId()));
+        }
+        entries.sort(Comparator.comparing(Entry::key, Arrays::compareUnsigned));
+
+        int[] keyOffsets = new int[entries.size() + 1];
+        int[] nameOffsets = new int[entries.size() + 1];
+        long[] ids = new long[entries.size() * 2];
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            keyOffsets[i + 1] = keyOffsets[i] + entry.key().length;
+            nameOffsets[i + 1] = nameOffsets[i] + entry.name().length;
+            ids[2 * i] = entry.id().getMostSignificantBits();
+            ids[2 * i + 1] = entry.id().getLeastSignificantBits();
+        }
+
+        byte[] keys = new byte[keyOffsets[entries.size()]];
+        byte[] names = new byte[nameOffsets[entries.size()]];
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            System.arraycopy(entry.key(), 0, keys, keyOffsets[i], entry.key().length);
+            System.arraycopy(entry.name(), 0, names, nameOffsets[i], entry.name().length);
+        }
+        return new ItemSuggestionIndex(keys, keyOffsets, names, nameOffsets, ids);
+    }
+
+    static String normalize(String text) {
+        String withoutAccents = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    int size() {
+        return keyOffsets.length - 1;
+    }
+
+    long footprintBytes() {
+        // Array payloads plus their 16-byte headers
+        return keys.length + names.length + 4L * (keyOffsets.length + nameOffsets.length) + 8L * ids.length + 5 * 16;
+    }
+
+    List<ItemSuggestion> suggest(String prefix, int limit) {
+        byte[] key = keyOf(prefix);
+        if (key.length == 0) {
+            return List.of();
+        }
+
+        List<ItemSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < size() && suggestions.size() < limit && startsWith(i, key); i++) {
+            suggestions.add(new ItemSuggestion(idAt(i),
+                    new String(names, nameOffsets[i], nameOffsets[i + 1] - nameOffsets[i], StandardCharsets.UTF_8)));
+        }
+        return suggestions;
+    }
+
+    ItemSuggestionIndex with(Item item) {
+        ItemSuggestionIndex base = without(item.getId());
+        byte[] key = keyOf(item.getName());
+        return base.insert(base.lowerBound(key), key, item.getName().getBytes(StandardCharsets.UTF_8), item.getId());
+    }
+
+    ItemSuggestionIndex without(UUID itemId) {
+        long most = itemId.getMostSignificantBits();
+        long least = itemId.getLeastSignificantBits();
+        for (int i = 0; i < size(); i++) {
+            if (ids[2 * i] == most && ids[2 * i + 1] == least) {
+                return remove(i);
+            }
+        }
+        return this;
+    }
+
+    private static byte[] keyOf(String text) {
+        return normalize(text).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // First entry whose key is greater than or equal to the given one
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(keys, keyOffsets[mid], keyOffsets[mid + 1], key, 0, key.length) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean startsWith(int index, byte[] prefix) {
+        int from = keyOffsets[index];
+        return keyOffsets[index + 1] - from >= prefix.length
+                && Arrays.equals(keys, from, from + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private UUID idAt(int index) {
+        return new UUID(ids[2 * index], ids[2 * index + 1]);
+    }
+
+    private ItemSuggestionIndex insert(int index, byte[] key, byte[] name, UUID id) {
+        long[] newIds = new long[ids.length + 2];
+        System.arraycopy(ids, 0, newIds, 0, 2 * index);
+        newIds[2 * index] = id.getMostSignificantBits();
+        newIds[2 * index + 1] = id.getLeastSignificantBits();
+        System.arraycopy(ids, 2 * index, newIds, 2 * index + 2, ids.length - 2 * index);
+
+        return new ItemSuggestionIndex(insertBytes(keys, keyOffsets, index, key), insertOffset(keyOffsets, index, key.length),
+                insertBytes(names, nameOffsets, index, name), insertOffset(nameOffsets, index, name.length), newIds);
+    }
+
+    private ItemSuggestionIndex remove(int index) {
+        long[] newIds = new long[ids.length - 2];
+        System.arraycopy(ids, 0, newIds, 0, 2 * index);
+        System.arraycopy(ids, 2 * index + 2, newIds, 2 * index, ids.length - 2 * index - 2);
+
+        return new ItemSuggestionIndex(removeBytes(keys, keyOffsets, index), removeOffset(keyOffsets, index),
+                removeBytes(names, nameOffsets, index), removeOffset(nameOffsets, index), newIds);
+    }
+
+    private static byte[] insertBytes(byte[] data, int[] offsets, int index, byte[] value) {
+        int at = offsets[index];
+        byte[] result = new byte[data.length + value.length];
+        System.arraycopy(data, 0, result, 0, at);
+        System.arraycopy(value, 0, result, at, value.length);
+        System.arraycopy(data, at, result, at + value.length, data.length - at);
+        return result;
+    }
+
+    private static int[] insertOffset(int[] offsets, int index, int length) {
+        int[] result = new int[offsets.length + 1];
+        System.arraycopy(offsets, 0, result, 0, index + 1);
+        for (int i = index; i < offsets.length; i++) {
+            result[i + 1] = offsets[i] + length;
+        }
+        return result;
+    }
+
+    private static byte[] removeBytes(byte[] data, int[] offsets, int index) {
+        int from = offsets[index];
+        int to = offsets[index + 1];
+        byte[] result = new byte[data.length - (to - from)];
+        System.arraycopy(data, 0, result, 0, from);
+        System.arraycopy(data, to, result, from, data.length - to);
+        return result;
+    }
+
+    private static int[] removeOffset(int[] offsets, int index) {
+        int length = offsets[index + 1] - offsets[index];
+        int[] result = new int[offsets.length - 1];
+        System.arraycopy(offsets, 0, result, 0, index + 1);
+        for (int i = index + 1; i < result.length; i++) {
+            result[i] = offsets[i + 1] - length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemSuggestion;
+import com.bynature.domain.repository.ItemRepository;
+import com.bynature.domain.service.ItemSuggestionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search-as-you-type over item names, answered from memory.
+ * <p>
+ * The index is built from the catalog once the application is ready and kept current by {@link ItemSpringService}
+ * on every item write. Readers never lock, writers swap in a new immutable index.
+ */
+@Service
+public class ItemSuggestionSpringService implements ItemSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSuggestionSpringService.class);
+
+    private final ItemRepository itemRepository;
+
+    private volatile ItemSuggestionIndex index = ItemSuggestionIndex.EMPTY;
+
+    public ItemSuggestionSpringService(ItemRepository itemRepository, MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+
+        Gauge.builder("items.suggestions.size", this, service -> service.index.size())
+                .description("Number of item names in the suggestion index")
+                .register(meterRegistry);
+        Gauge.builder("items.suggestions.memory", this, service -> service.index.footprintBytes())
+                .description("Heap used by the suggestion index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ItemSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return index.suggest(prefix, limit);
+    }
+
+    @Override
+    public synchronized void indexItem(Item item) {
+        index = index.with(item);
+    }
+
+    @Override
+    public synchronized void removeItem(UUID itemId) {
+        index = index.without(itemId);
+    }
+
+    // Holding the lock while reading keeps a concurrent write from being overwritten by an older catalog
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        index = ItemSuggestionIndex.of(itemRepository.getAllItems());
+        log.info("Item suggestion index built with {} names ({} bytes)", index.size(), index.footprintBytes());
+    }
+}
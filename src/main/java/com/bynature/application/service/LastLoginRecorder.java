@@ -0,0 +1,104 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Takes last-login updates off the login request. Logins are buffered in memory, one entry per user keeping the latest
+ * time, and written on an interval in batched updates. The buffer is bounded: when it is full, logins of users not
+ * already in it are dropped and counted, a last-login time being informational only. Pending logins are written on
+ * shutdown.
+ */
+@Service
+public class LastLoginRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private final UserRepository userRepository;
+    private final int maxPending;
+    private final int batchSize;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter recorded;
+    private final Counter dropped;
+    private final Counter written;
+
+    public LastLoginRecorder(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${application.users.last-login.max-pending:10000}") int maxPending,
+                             @Value("${application.users.last-login.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        meterRegistry.gaugeMapSize("users.last-login.pending", List.of(), pending);
+        this.recorded = meterRegistry.counter("users.last-login.recorded");
+        this.dropped = meterRegistry.counter("users.last-login.dropped");
+        this.written = meterRegistry.counter("users.last-login.written");
+    }
+
+    public void recordLogin(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            dropped.increment();
+            log.debug("Last-login buffer full, dropping login of user {}", userId);
+            return;
+        }
+        pending.merge(userId, now, LastLoginRecorder::latest);
+        recorded.increment();
+    }
+
+    @Scheduled(initialDelayString = "${application.users.last-login.flush-interval:PT5S}",
+            fixedDelayString = "${application.users.last-login.flush-interval:PT5S}")
+    public synchronized void flush() {
+        while (!pending.isEmpty()) {
+            Map<UUID, LocalDateTime> batch = new HashMap<>();
+            for (UUID userId : pending.keySet()) {
+                LocalDateTime lastLogin = pending.remove(userId);
+                if (lastLogin != null) {
+                    batch.put(userId, lastLogin);
+                }
+                if (batch.size() == batchSize) {
+                    break;
+                }
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                userRepository.updateUsersLastLogin(batch);
+                written.increment(batch.size());
+            } catch (RuntimeException e) {
+                // Put the batch back for the next flush, newer logins recorded meanwhile win
+                batch.forEach((userId, lastLogin) -> pending.merge(userId, lastLogin, LastLoginRecorder::latest));
+                log.warn("Could not write {} last-login times, retrying on next flush", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Writing {} pending last-login times before shutdown", pending.size());
+        flush();
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,107 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.events.OrderEventSink;
+import com.bynature.adapters.out.persistence.jpa.adapter.OrderOutboxRepositoryAdapter;
+import com.bynature.domain.model.OrderEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the order outbox to the configured {@link OrderEventSink}, every {@code poll-interval}, in batches of up to
+ * {@code batch-size} events, oldest first. A batch is locked, published and deleted in one transaction: if the sink or
+ * the commit fails, the batch stays in the outbox and is published again, events included that the sink already
+ * took. Publishing stops at the first failed batch until the next poll, so no later event of an order overtakes it.
+ */
+@Service
+public class OrderOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OrderOutboxRepositoryAdapter orderOutboxRepositoryAdapter;
+    private final OrderEventSink orderEventSink;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    // Age of the oldest event waiting when the relay last ran, still growing while the sink fails
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public OrderOutboxRelay(OrderOutboxRepositoryAdapter orderOutboxRepositoryAdapter,
+                            OrderEventSink orderEventSink,
+                            TransactionOperations transactionOperations,
+                            MeterRegistry meterRegistry,
+                            @Value("${application.orders.outbox.batch-size:500}") int batchSize) {
+        this.orderOutboxRepositoryAdapter = orderOutboxRepositoryAdapter;
+        this.orderEventSink = orderEventSink;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+
+        this.published = Counter.builder("orders.outbox.published")
+                .description("Order events published from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("orders.outbox.failures")
+                .description("Batches of order events the sink failed to publish")
+                .register(meterRegistry);
+        this.lag = Timer.builder("orders.outbox.lag")
+                .description("Time from an order change to the publication of its event")
+                .register(meterRegistry);
+        Gauge.builder("orders.outbox.oldest.age", oldestPendingMillis, AtomicLong::get)
+                .description("Age of the oldest order event waiting in the outbox, in milliseconds")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes every event in the outbox, or up to the first batch that fails.
+     */
+    @Scheduled(initialDelayString = "${application.orders.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${application.orders.outbox.poll-interval:PT1S}")
+    public void relay() {
+        try {
+            List<OrderEvent> batch;
+            do {
+                batch = transactionOperations.execute(status -> relayBatch());
+                recordPublished(batch);
+            } while (batch != null && batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Could not publish order events, retrying on next poll", e);
+        }
+    }
+
+    private List<OrderEvent> relayBatch() {
+        List<OrderEvent> batch = orderOutboxRepositoryAdapter.lockOldest(batchSize);
+        oldestPendingMillis.set(batch.isEmpty() ? 0
+                : Duration.between(batch.getFirst().occurredAt(), LocalDateTime.now()).toMillis());
+        if (!batch.isEmpty()) {
+            orderEventSink.publish(batch);
+            orderOutboxRepositoryAdapter.delete(batch.stream().map(OrderEvent::id).toList());
+        }
+        return batch;
+    }
+
+    // Once committed: a batch whose deletion did not commit is published again
+    private void recordPublished(List<OrderEvent> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        published.increment(batch.size());
+        batch.forEach(event -> lag.record(Duration.between(event.occurredAt(), now)));
+        log.debug("Published {} order events", batch.size());
+    }
+}
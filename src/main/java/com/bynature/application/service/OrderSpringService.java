@@ -1,26 +1,43 @@
 package com.bynature.application.service;
 
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderCursor;
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderPage;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+import com.bynature.domain.repository.OrderOutboxRepository;
 import com.bynature.domain.repository.OrderRepository;
 import com.bynature.domain.service.OrderService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Order creation and accepted status changes append an {@link OrderEvent} to the outbox in the same transaction as the
+ * change, for {@link OrderOutboxRelay} to publish. An order left in its status, refused or already there, gets none.
+ */
 @Service
 public class OrderSpringService implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
 
-    public OrderSpringService(OrderRepository orderRepository) {
+    public OrderSpringService(OrderRepository orderRepository, OrderOutboxRepository orderOutboxRepository) {
         this.orderRepository = orderRepository;
+        this.orderOutboxRepository = orderOutboxRepository;
     }
 
-    public UUID createOrder(Order order) {
-        return orderRepository.saveOrder(order);
+    @Transactional
+    public Order createOrder(Order order) {
+        Order savedOrder = orderRepository.saveOrder(order);
+        orderOutboxRepository.append(OrderEvent.created(savedOrder));
+        return savedOrder;
     }
 
     public void updateOrder(Order order) {
@@ -28,12 +45,36 @@ public class OrderSpringService implements OrderService {
         orderRepository.updateOrder(order);
     }
 
-    public void updateOrderStatus(UUID orderId, OrderStatus status) {
-        orderRepository.updateOrderStatus(orderId, status);
+    @Transactional
+    public OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status) {
+        OrderStatusUpdateResult result = orderRepository.updateOrderStatus(orderId, status);
+        if (result == OrderStatusUpdateResult.UPDATED) {
+            orderOutboxRepository.append(OrderEvent.statusChanged(orderId, status, LocalDateTime.now()));
+        }
+        return result;
     }
 
-    public void updateOrderStatus(UUID orderId, OrderStatus status, String paymentIntentId) {
-        orderRepository.updateOrderStatus(orderId, status, paymentIntentId);
+    @Transactional
+    public OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status, String paymentIntentId) {
+        OrderStatusUpdateResult result = orderRepository.updateOrderStatus(orderId, status, paymentIntentId);
+        if (result == OrderStatusUpdateResult.UPDATED) {
+            orderOutboxRepository.append(OrderEvent.statusChanged(orderId, status, LocalDateTime.now()));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, OrderStatusUpdateResult> updateOrderStatuses(Collection<UUID> orderIds, OrderStatus status) {
+        Map<UUID, OrderStatusUpdateResult> results = orderRepository.updateOrderStatuses(orderIds, status);
+
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepository.appendAll(results.entrySet()
+                .stream()
+                .filter(result -> result.getValue() == OrderStatusUpdateResult.UPDATED)
+                .map(result -> OrderEvent.statusChanged(result.getKey(), status, now))
+                .toList());
+        return results;
     }
 
     public Order getOrder(UUID orderId) {
@@ -45,6 +86,11 @@ public class OrderSpringService implements OrderService {
         return orderRepository.getOrdersByCustomer(customerId);
     }
 
+    @Override
+    public OrderPage getOrdersByCustomer(UUID customerId, OrderCursor after, int limit) {
+        return orderRepository.getOrdersByCustomer(customerId, after, limit);
+    }
+
     public void deleteOrder(UUID orderId) {
         orderRepository.deleteOrder(orderId);
     }
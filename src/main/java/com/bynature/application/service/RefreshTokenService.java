@@ -0,0 +1,107 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.RefreshTokenRepositoryAdapter;
+import com.bynature.domain.model.RefreshToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues app-client tokens and rotates refresh tokens. Every refresh token is registered by its {@code jti} and can
+ * be used once; refreshing returns the next token of the same family. A token presented a second time means it
+ * leaked, so its whole family is revoked, along with the access tokens issued for it.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final TokenService tokenService;
+    private final RefreshTokenRepositoryAdapter refreshTokenRepositoryAdapter;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final Counter rotated;
+    private final Counter replayed;
+
+    public record IssuedTokens(String accessToken, String refreshToken, Instant expiresAt) {
+    }
+
+    public RefreshTokenService(TokenService tokenService,
+                               RefreshTokenRepositoryAdapter refreshTokenRepositoryAdapter,
+                               RevokedTokenFamilies revokedTokenFamilies,
+                               MeterRegistry meterRegistry) {
+        this.tokenService = tokenService;
+        this.refreshTokenRepositoryAdapter = refreshTokenRepositoryAdapter;
+        this.revokedTokenFamilies = revokedTokenFamilies;
+        this.rotated = meterRegistry.counter("auth.refresh-tokens.rotated");
+        this.replayed = meterRegistry.counter("auth.refresh-tokens.replayed");
+    }
+
+    /**
+     * Starts a new token family for a client that just authenticated.
+     */
+    public IssuedTokens issue(String appClientId) {
+        return issue(appClientId, UUID.randomUUID());
+    }
+
+    /**
+     * @param refreshJwt a refresh token whose signature and expiry were already checked
+     * @return the next tokens of its family, or empty if the token is not a usable refresh token
+     */
+    public Optional<IssuedTokens> refresh(Jwt refreshJwt) {
+        String familyClaim = refreshJwt.getClaimAsString(TokenService.FAMILY_CLAIM);
+        if (!"refresh".equals(refreshJwt.getClaimAsString("type")) || familyClaim == null || refreshJwt.getId() == null) {
+            return Optional.empty();
+        }
+
+        UUID familyId = UUID.fromString(familyClaim);
+        if (revokedTokenFamilies.isRevoked(familyId)) {
+            return Optional.empty();
+        }
+
+        if (!refreshTokenRepositoryAdapter.markUsed(UUID.fromString(refreshJwt.getId()))) {
+            // Already used (or unknown, or expired): someone else holds a copy of this family
+            log.warn("Refresh token {} of client {} replayed, revoking family {}",
+                    refreshJwt.getId(), refreshJwt.getSubject(), familyId);
+            replayed.increment();
+            refreshTokenRepositoryAdapter.revokeFamily(familyId);
+            revokedTokenFamilies.revoked(List.of(familyId));
+            return Optional.empty();
+        }
+
+        rotated.increment();
+        return Optional.of(issue(refreshJwt.getSubject(), familyId));
+    }
+
+    /**
+     * Revokes every token issued to the client, refresh and access tokens alike.
+     */
+    public void revokeAppClient(String appClientId) {
+        revokedTokenFamilies.revoked(refreshTokenRepositoryAdapter.revokeAppClient(appClientId));
+    }
+
+    private IssuedTokens issue(String appClientId, UUID familyId) {
+        UUID tokenId = UUID.randomUUID();
+        Instant now = Instant.now();
+        Instant refreshExpiresAt = now.plus(TokenService.REFRESH_TOKEN_VALIDITY);
+
+        refreshTokenRepositoryAdapter.save(new RefreshToken(tokenId, familyId, appClientId,
+                LocalDateTime.ofInstant(now, ZoneId.systemDefault()),
+                LocalDateTime.ofInstant(refreshExpiresAt, ZoneId.systemDefault())));
+
+        return new IssuedTokens(
+                tokenService.generateAccessToken(appClientId, "api", familyId),
+                tokenService.generateRefreshToken(appClientId, tokenId, familyId, refreshExpiresAt),
+                now.plus(15, ChronoUnit.MINUTES));
+    }
+}
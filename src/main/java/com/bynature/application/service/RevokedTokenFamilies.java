@@ -0,0 +1,107 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.RefreshTokenRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers "was this token family revoked?" on every authenticated request. A Bloom filter of the revoked families,
+ * rebuilt from the refresh_tokens table every {@code refresh-interval}, clears almost every token in nanoseconds
+ * without a query; only its rare positives are confirmed against the database. Revocations made on this node apply at
+ * once, those made on other nodes within {@code refresh-interval}.
+ */
+@Service
+public class RevokedTokenFamilies {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenFamilies.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RefreshTokenRepositoryAdapter refreshTokenRepositoryAdapter;
+    private final int expectedRevocations;
+    private final Cache<UUID, Boolean> confirmed;
+    private final Counter clearedChecks;
+    private final Counter revokedChecks;
+    private final Counter falsePositiveChecks;
+
+    private volatile UuidBloomFilter filter;
+
+    public RevokedTokenFamilies(RefreshTokenRepositoryAdapter refreshTokenRepositoryAdapter,
+                                MeterRegistry meterRegistry,
+                                @Value("${application.security.revocation.expected-revocations:100000}") int expectedRevocations,
+                                @Value("${application.security.revocation.refresh-interval:PT30S}") Duration refreshInterval) {
+        this.refreshTokenRepositoryAdapter = refreshTokenRepositoryAdapter;
+        this.expectedRevocations = expectedRevocations;
+        // Confirmed answers are kept for one refresh interval so a revoked token replayed in a loop costs no queries
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(refreshInterval)
+                .build();
+
+        this.clearedChecks = checkCounter(meterRegistry, "cleared");
+        this.revokedChecks = checkCounter(meterRegistry, "revoked");
+        this.falsePositiveChecks = checkCounter(meterRegistry, "false-positive");
+
+        refresh();
+        meterRegistry.gauge("auth.revocation.filter.bytes", this, families -> families.filter.sizeInBytes());
+    }
+
+    public boolean isRevoked(UUID familyId) {
+        if (!filter.mightContain(familyId)) {
+            clearedChecks.increment();
+            return false;
+        }
+
+        boolean revoked = confirmed.get(familyId, refreshTokenRepositoryAdapter::isFamilyRevoked);
+        (revoked ? revokedChecks : falsePositiveChecks).increment();
+        return revoked;
+    }
+
+    /**
+     * Records families just revoked in the database by this node.
+     */
+    public synchronized void revoked(Collection<UUID> familyIds) {
+        familyIds.forEach(familyId -> {
+            filter.put(familyId);
+            confirmed.invalidate(familyId);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${application.security.revocation.refresh-interval:PT30S}",
+            fixedDelayString = "${application.security.revocation.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        // Under the lock: a revocation committed while the table is read is added to the new filter, not the old one
+        List<UUID> revokedFamilies = refreshTokenRepositoryAdapter.findRevokedFamilies();
+        UuidBloomFilter rebuilt = new UuidBloomFilter(Math.max(expectedRevocations, revokedFamilies.size() * 2),
+                FALSE_POSITIVE_RATE);
+        revokedFamilies.forEach(rebuilt::put);
+        filter = rebuilt;
+        log.debug("Revocation filter rebuilt with {} families", revokedFamilies.size());
+    }
+
+    @Scheduled(cron = "${application.security.revocation.cleanup-cron:0 0 4 * * *}")
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepositoryAdapter.deleteExpiredBefore(LocalDateTime.now());
+        log.info("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.revocation.checks")
+                .description("Revocation checks of token families")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
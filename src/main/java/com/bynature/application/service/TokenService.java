@@ -7,6 +7,7 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
@@ -14,6 +15,12 @@ import java.util.UUID;
 @Service
 public class TokenService {
 
+    /**
+     * Claim holding the refresh token family a token was issued for, checked against revocations on every request.
+     */
+    public static final String FAMILY_CLAIM = "fid";
+    public static final Duration REFRESH_TOKEN_VALIDITY = Duration.ofDays(7);
+
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
 
@@ -23,32 +30,43 @@ public class TokenService {
     }
 
     public String generateAccessToken(String clientId, String audience) {
+        return generateAccessToken(clientId, audience, null);
+    }
+
+    public String generateAccessToken(String clientId, String audience, UUID familyId) {
         Instant now = Instant.now();
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("bynature")
                 .issuedAt(now)
                 .expiresAt(now.plus(15, ChronoUnit.MINUTES))
                 .subject(clientId)
                 .claim("type", "access")
                 .claim("aud", audience)
-                .id(UUID.randomUUID().toString())
-                .build();
+                .id(UUID.randomUUID().toString());
+        if (familyId != null) {
+            claims.claim(FAMILY_CLAIM, familyId.toString());
+        }
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
     }
 
     public String generateRefreshToken(String clientId) {
-        Instant now = Instant.now();
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        return generateRefreshToken(clientId, UUID.randomUUID(), null, Instant.now().plus(REFRESH_TOKEN_VALIDITY));
+    }
+
+    public String generateRefreshToken(String clientId, UUID tokenId, UUID familyId, Instant expiresAt) {
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("bynature")
-                .issuedAt(now)
-                .expiresAt(now.plus(7, ChronoUnit.DAYS))
+                .issuedAt(Instant.now())
+                .expiresAt(expiresAt)
                 .subject(clientId)
                 .claim("type", "refresh")
-                .id(UUID.randomUUID().toString())
-                .build();
+                .id(tokenId.toString());
+        if (familyId != null) {
+            claims.claim(FAMILY_CLAIM, familyId.toString());
+        }
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
     }
 
     public Jwt validateAndParseToken(String token) {
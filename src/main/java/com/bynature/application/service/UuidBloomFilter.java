@@ -0,0 +1,60 @@
+package com.bynature.application.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over UUIDs: {@link #mightContain(UUID)} never misses an added id and wrongly answers {@code true} for
+ * about {@code falsePositiveRate} of the others. Safe for concurrent use.
+ */
+class UuidBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    UuidBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    void put(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes() {
+        return bits.length() * 8L;
+    }
+
+    // Random UUIDs are already uniform, but other versions are not: spread their bits (SplitMix64 finalizer)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,120 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookEventRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Applies each Stripe event once, however many times it is delivered. The event id is recorded in the same transaction
+ * as the changes the event makes: if applying it fails, nothing is recorded and Stripe's retry applies it again. Ids of
+ * events applied recently are also kept in memory, so a retry storm is answered without touching the database.
+ */
+@Service
+public class WebhookEventDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookEventDeduplicator.class);
+
+    private final StripeWebhookEventRepositoryAdapter stripeWebhookEventRepositoryAdapter;
+    private final TransactionOperations transactionOperations;
+    private final Duration retention;
+    private final Cache<String, Boolean> processedEvents;
+    private final Counter processed;
+    private final Counter duplicatesFromCache;
+    private final Counter duplicatesFromDatabase;
+
+    public WebhookEventDeduplicator(StripeWebhookEventRepositoryAdapter stripeWebhookEventRepositoryAdapter,
+                                    TransactionOperations transactionOperations,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${application.payments.webhook-events.cache-size:100000}") long cacheSize,
+                                    @Value("${application.payments.webhook-events.retention:P30D}") Duration retention) {
+        this.stripeWebhookEventRepositoryAdapter = stripeWebhookEventRepositoryAdapter;
+        this.transactionOperations = transactionOperations;
+        this.retention = retention;
+        this.processedEvents = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                // Stripe stops retrying after three days
+                .expireAfterWrite(Duration.ofDays(3))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, processedEvents, "stripe.webhook.events");
+
+        this.processed = eventCounter(meterRegistry, "processed", "none");
+        this.duplicatesFromCache = eventCounter(meterRegistry, "duplicate", "cache");
+        this.duplicatesFromDatabase = eventCounter(meterRegistry, "duplicate", "database");
+    }
+
+    /**
+     * Answers a delivery from memory, without waiting for it to be processed.
+     *
+     * @return whether the event is known to be processed already, in which case the delivery is counted as a duplicate
+     */
+    public boolean isDuplicate(String eventId) {
+        if (eventId == null || processedEvents.getIfPresent(eventId) == null) {
+            return false;
+        }
+        duplicatesFromCache.increment();
+        log.debug("Stripe event {} already processed (cache)", eventId);
+        return true;
+    }
+
+    /**
+     * Runs {@code handler} in a transaction that also records the event, unless the event was already processed.
+     * An exception thrown by the handler rolls both back.
+     *
+     * @return the handler's result, or empty for an event already processed
+     */
+    public <T> Optional<T> processOnce(String eventId, String eventType, Supplier<T> handler) {
+        if (eventId == null) {
+            log.warn("Stripe event {} has no id, processing it without deduplication", eventType);
+            return Optional.of(handler.get());
+        }
+
+        if (isDuplicate(eventId)) {
+            return Optional.empty();
+        }
+
+        Optional<T> result = transactionOperations.execute(status -> {
+            if (!stripeWebhookEventRepositoryAdapter.record(eventId, eventType, LocalDateTime.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(handler.get());
+        });
+
+        // Recorded either way now, by this delivery or an earlier one
+        processedEvents.put(eventId, Boolean.TRUE);
+        if (result.isPresent()) {
+            processed.increment();
+        } else {
+            duplicatesFromDatabase.increment();
+            log.debug("Stripe event {} already processed (database)", eventId);
+        }
+        return result;
+    }
+
+    @Scheduled(cron = "${application.payments.webhook-events.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpiredEvents() {
+        stripeWebhookEventRepositoryAdapter.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result, String source) {
+        return Counter.builder("stripe.webhook.deliveries")
+                .description("Stripe event deliveries, processed or skipped as duplicates")
+                .tag("result", result)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bynature.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits the credential checks made against each account, on top of the per-address limits of
+ * {@link RateLimitFilter}: guesses spread over many addresses still only get a few tries per account. Uses the same
+ * {@link RateLimitBackend}, so with the database backend the limits hold across nodes too.
+ */
+@Component
+public class AccountRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountRateLimiter.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final RateLimitBackend backend;
+    private final RateLimit loginLimit;
+    private final RateLimit clientTokenLimit;
+    private final Counter loginRejected;
+    private final Counter clientTokenRejected;
+
+    public AccountRateLimiter(RateLimitBackend backend,
+                              MeterRegistry meterRegistry,
+                              @Value("${application.rate-limit.login-account.capacity:5}") int loginCapacity,
+                              @Value("${application.rate-limit.login-account.period:PT1M}") Duration loginPeriod,
+                              @Value("${application.rate-limit.client-token-account.capacity:10}") int clientTokenCapacity,
+                              @Value("${application.rate-limit.client-token-account.period:PT1M}") Duration clientTokenPeriod) {
+        this.backend = backend;
+        this.loginLimit = new RateLimit("login-account", loginCapacity, loginPeriod);
+        this.clientTokenLimit = new RateLimit("client-token-account", clientTokenCapacity, clientTokenPeriod);
+        this.loginRejected = rejectedCounter(meterRegistry, loginLimit);
+        this.clientTokenRejected = rejectedCounter(meterRegistry, clientTokenLimit);
+    }
+
+    /**
+     * @throws RateLimitExceededException if the account of this email has used up its login attempts
+     */
+    public void acquireLogin(String email) {
+        // The same account however the email is typed
+        acquire(loginLimit, loginRejected, email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @throws RateLimitExceededException if this client has used up its secret checks
+     */
+    public void acquireClientToken(String appClientId) {
+        acquire(clientTokenLimit, clientTokenRejected, appClientId);
+    }
+
+    private void acquire(RateLimit limit, Counter rejected, String account) {
+        String key = limit.name() + ":account:" + account;
+        if (key.length() > MAX_KEY_LENGTH) {
+            // No account has such a long name: share one bucket rather than overflow the bucket key column
+            key = limit.name() + ":account:oversized";
+        }
+        long waitNanos = backend.tryAcquire(key, limit);
+        if (waitNanos != 0) {
+            rejected.increment();
+            log.debug("Rate limit {} exceeded for account {}", limit.name(), account);
+            throw new RateLimitExceededException(limit.name(), waitNanos);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, RateLimit limit) {
+        return Counter.builder("http.rate-limit.rejected")
+                .description("Requests refused by a rate limit")
+                .tag("limit", limit.name())
+                .register(meterRegistry);
+    }
+}
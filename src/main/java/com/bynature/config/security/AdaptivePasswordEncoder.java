@@ -0,0 +1,100 @@
+package com.bynature.config.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt at a cost picked for the hardware: {@link #calibrated} times hashing at startup and takes the highest cost
+ * that stays within the target time. New hashes carry their algorithm, {@code {bcrypt}$2a$12$...}; hashes stored
+ * before that have no prefix and are read as BCrypt.
+ * <p>
+ * {@link #upgradeEncoding(String)} tells whether a hash was made at another cost, so it can be replaced on the next
+ * successful login and the cost moved up or down without resetting passwords. One step above the current cost is
+ * tolerated, so nodes whose calibration differs by one do not rehash the same passwords back and forth.
+ */
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT_ID + "}";
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$(\\d\\d)\\$.{53}");
+    private static final int CALIBRATION_RUNS = 3;
+
+    private final int strength;
+    private final PasswordEncoder delegate;
+
+    public AdaptivePasswordEncoder(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        this.strength = strength;
+        this.delegate = delegating;
+    }
+
+    /**
+     * @return an encoder at the highest cost between {@code minStrength} and {@code maxStrength} that hashes within
+     * {@code targetHashTime} on this machine
+     */
+    public static AdaptivePasswordEncoder calibrated(Duration targetHashTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration");
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        // Every extra round of cost doubles the work
+        int strength = minStrength;
+        while (strength < maxStrength && fastest << (strength + 1 - minStrength) <= targetHashTime.toNanos()) {
+            strength++;
+        }
+        log.info("Hashing passwords with BCrypt cost {} ({} ms at cost {}, target {} ms)", strength,
+                Duration.ofNanos(fastest).toMillis(), minStrength, targetHashTime.toMillis());
+        return new AdaptivePasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        String hash = encodedPassword.startsWith(BCRYPT_PREFIX)
+                ? encodedPassword.substring(BCRYPT_PREFIX.length())
+                : encodedPassword;
+        Matcher matcher = BCRYPT_HASH.matcher(hash);
+        if (!matcher.matches()) {
+            // Not a hash this encoder can verify, there is no login to upgrade it on
+            return false;
+        }
+
+        int cost = Integer.parseInt(matcher.group(1));
+        return cost < strength || cost > strength + 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.bynature.config.security;
+
+import com.bynature.domain.model.Role;
+import com.bynature.domain.model.User;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Principal of a user authenticated by {@link UserAuthenticationProvider}: what token issuing needs to know about the
+ * user, so nothing has to be read again once the credentials are checked.
+ */
+public record AuthenticatedUser(UUID userId, String email, Role role, UUID customerId) implements Principal {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail().email(), user.getRole(),
+                user.getCustomer() != null ? user.getCustomer().getId() : null);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
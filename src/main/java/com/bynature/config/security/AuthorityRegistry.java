@@ -0,0 +1,67 @@
+package com.bynature.config.security;
+
+import com.bynature.domain.model.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every authority the application grants, built once: the authorities of each role (its {@code ROLE_} authority and
+ * the {@code SCOPE_} authorities of its scopes) and one shared instance per known scope and role name. Logins and
+ * token conversion hand out these instances instead of building new ones per request. The scopes of each role come
+ * from {@code application.security.role-scopes}.
+ */
+public class AuthorityRegistry {
+
+    static final String ROLE_PREFIX = "ROLE_";
+    static final String SCOPE_PREFIX = "SCOPE_";
+
+    private final Map<Role, List<GrantedAuthority>> roleAuthorities;
+    private final Map<String, GrantedAuthority> scopes;
+    private final Map<String, GrantedAuthority> roles;
+
+    public AuthorityRegistry(Map<Role, List<String>> roleScopes) {
+        Map<String, GrantedAuthority> scopes = new HashMap<>();
+        Map<String, GrantedAuthority> roles = new HashMap<>();
+        Map<Role, List<GrantedAuthority>> roleAuthorities = new EnumMap<>(Role.class);
+
+        for (Role role : Role.values()) {
+            GrantedAuthority roleAuthority = new SimpleGrantedAuthority(ROLE_PREFIX + role.name());
+            roles.put(role.name(), roleAuthority);
+
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            authorities.add(roleAuthority);
+            for (String scope : roleScopes.getOrDefault(role, List.of())) {
+                authorities.add(scopes.computeIfAbsent(scope, name -> new SimpleGrantedAuthority(SCOPE_PREFIX + name)));
+            }
+            roleAuthorities.put(role, List.copyOf(authorities));
+        }
+
+        this.roleAuthorities = roleAuthorities;
+        this.scopes = Map.copyOf(scopes);
+        this.roles = Map.copyOf(roles);
+    }
+
+    /**
+     * @return the role authority followed by the scope authorities of the role, an immutable list
+     */
+    public List<GrantedAuthority> authoritiesOf(Role role) {
+        return roleAuthorities.get(role);
+    }
+
+    public GrantedAuthority scope(String scope) {
+        GrantedAuthority authority = scopes.get(scope);
+        // Scopes no role has are still honoured, they are just not shared
+        return authority != null ? authority : new SimpleGrantedAuthority(SCOPE_PREFIX + scope);
+    }
+
+    public GrantedAuthority role(String role) {
+        GrantedAuthority authority = roles.get(role);
+        return authority != null ? authority : new SimpleGrantedAuthority(ROLE_PREFIX + role);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bynature.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Computes the authorities of a token once. Entries are keyed by the {@link Jwt} instance itself (weak, identity
+ * keys): {@link CachingJwtDecoder} hands out the same instance for the same token, and an entry goes away with it.
+ */
+public class CachingJwtAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> delegate;
+    private final Cache<Jwt, Collection<GrantedAuthority>> authorities;
+
+    public CachingJwtAuthoritiesConverter(Converter<Jwt, Collection<GrantedAuthority>> delegate,
+                                          MeterRegistry meterRegistry, long maximumSize) {
+        this.delegate = delegate;
+        this.authorities = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authorities, "security.jwt.authorities");
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        return authorities.get(jwt, key -> List.copyOf(delegate.convert(key)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.bynature.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that passed signature and claim validation until they expire, so a token presented again skips the
+ * RSA verification. Tokens are keyed by their SHA-256, the cache never holds a bearer token itself. Rejected tokens are
+ * not remembered: they keep paying for a full verification.
+ * <p>
+ * Checks whose answer can change during a token's life, such as revocation, go in {@code uncachedValidator}: it runs
+ * on every decode, cache hit or not.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> uncachedValidator;
+    private final Cache<String, Jwt> validated;
+
+    public CachingJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry, long maximumSize) {
+        this(delegate, jwt -> OAuth2TokenValidatorResult.success(), meterRegistry, maximumSize);
+    }
+
+    public CachingJwtDecoder(JwtDecoder delegate,
+                             OAuth2TokenValidator<Jwt> uncachedValidator,
+                             MeterRegistry meterRegistry,
+                             long maximumSize) {
+        this.delegate = delegate;
+        this.uncachedValidator = uncachedValidator;
+        this.validated = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, Jwt>creating((key, jwt) -> timeToLive(jwt)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, validated, "security.jwt");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+
+        String key = sha256(token);
+        Jwt jwt = validated.getIfPresent(key);
+        // The cache runs on a monotonic clock while tokens expire on the wall clock, check both
+        if (jwt == null || jwt.getExpiresAt() == null || !Instant.now().isBefore(jwt.getExpiresAt())) {
+            jwt = delegate.decode(token);
+            if (jwt.getExpiresAt() != null) {
+                validated.put(key, jwt);
+            }
+        }
+
+        OAuth2TokenValidatorResult result = uncachedValidator.validate(jwt);
+        if (result.hasErrors()) {
+            throw new JwtValidationException(result.getErrors().iterator().next().getDescription(),
+                    result.getErrors());
+        }
+        return jwt;
+    }
+
+    private static Duration timeToLive(Jwt jwt) {
+        Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
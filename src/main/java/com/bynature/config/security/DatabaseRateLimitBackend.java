@@ -0,0 +1,58 @@
+package com.bynature.config.security;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.RateLimitBucketRepositoryAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets shared by every node through the rate_limit_buckets table, in the same timestamp form as
+ * {@link InMemoryRateLimitBackend} but on the wall clock. An allowed request costs one update, a refused one an update
+ * and a read. Node clocks are expected to agree within a fraction of the refill interval.
+ */
+@Component
+@ConditionalOnProperty(name = "application.rate-limit.backend", havingValue = "database")
+public class DatabaseRateLimitBackend implements RateLimitBackend {
+
+    // A bucket is created or changed by another node at most this many times while one request is being decided
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RateLimitBucketRepositoryAdapter rateLimitBucketRepositoryAdapter;
+
+    public DatabaseRateLimitBackend(RateLimitBucketRepositoryAdapter rateLimitBucketRepositoryAdapter) {
+        this.rateLimitBucketRepositoryAdapter = rateLimitBucketRepositoryAdapter;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        long interval = Math.max(limit.interval().toMillis(), 1);
+        long tolerance = limit.tolerance().toMillis();
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long now = System.currentTimeMillis();
+            if (rateLimitBucketRepositoryAdapter.take(key, now, interval, tolerance)) {
+                return 0;
+            }
+
+            Optional<Long> theoreticalArrival = rateLimitBucketRepositoryAdapter.findTheoreticalArrival(key);
+            if (theoreticalArrival.isEmpty()) {
+                if (rateLimitBucketRepositoryAdapter.create(key, now + interval)) {
+                    return 0;
+                }
+            } else if (theoreticalArrival.get() - tolerance > now) {
+                return TimeUnit.MILLISECONDS.toNanos(theoreticalArrival.get() - tolerance - now);
+            }
+            // Created, refilled or deleted in between: try again
+        }
+        return TimeUnit.MILLISECONDS.toNanos(interval);
+    }
+
+    @Scheduled(initialDelayString = "${application.rate-limit.cleanup-interval:PT10M}",
+            fixedDelayString = "${application.rate-limit.cleanup-interval:PT10M}")
+    public void deleteFullBuckets() {
+        rateLimitBucketRepositoryAdapter.deleteFullBuckets(System.currentTimeMillis());
+    }
+}
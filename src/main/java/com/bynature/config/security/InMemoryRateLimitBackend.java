@@ -0,0 +1,66 @@
+package com.bynature.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Buckets held by this node. A bucket is a single timestamp, the time at which it is full again (the generic cell rate
+ * algorithm form of a token bucket), so taking a token is one compare-and-set with no lock and no refill thread.
+ * Requests only contend on their own key. Idle buckets are dropped once full again, and the number of keys is bounded
+ * so a flood of distinct addresses cannot exhaust memory.
+ */
+@Component
+@ConditionalOnProperty(name = "application.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final LongSupplier nanoClock;
+    private final Cache<String, Bucket> buckets;
+
+    private record Bucket(AtomicLong theoreticalArrival, Duration period) {
+    }
+
+    @Autowired
+    public InMemoryRateLimitBackend(@Value("${application.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this(maximumKeys, System::nanoTime);
+    }
+
+    InMemoryRateLimitBackend(long maximumKeys, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                // After a full period without requests a bucket is full again, forgetting it changes nothing
+                .expireAfter(Expiry.<String, Bucket>accessing((key, bucket) -> bucket.period()))
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new Bucket(new AtomicLong(now), limit.period()))
+                .theoreticalArrival();
+        long interval = limit.interval().toNanos();
+        long tolerance = limit.tolerance().toNanos();
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            // nanoTime values are only comparable by difference
+            long arrival = current - now > 0 ? current : now;
+            long wait = arrival - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + interval)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.bynature.config.security;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.JwkKeyRepositoryAdapter;
+import com.bynature.domain.model.SigningKey;
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Token signing keys, shared by every node through the database so a token issued by one node verifies on all of them
+ * and survives restarts.
+ * <p>
+ * All stored keys verify; the newest key that every node has had time to load signs. Keys are reloaded every
+ * {@code refresh-interval}, replaced after {@code rotation-interval} and deleted once no token they signed can still be
+ * valid. A token whose key id is unknown triggers an early reload, so a key created by another node is picked up
+ * without waiting for the next refresh.
+ * <p>
+ * Stored keys hold their private half, so they are encrypted before they reach the database, as a compact JWE
+ * (direct AES-256-GCM) under the key-encryption key of {@code encryption-key}. That key comes from the environment and
+ * is never stored: a database dump alone cannot sign tokens. The key id is part of the authenticated JWE header, so a
+ * stored key cannot be passed off under another id.
+ */
+@Component
+public class JwkKeyStore implements JWKSource<SecurityContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwkKeyStore.class);
+
+    private static final int KEY_SIZE = 2048;
+    // Bounds the reloads that tokens with made-up key ids can cause
+    private static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final JwkKeyRepositoryAdapter jwkKeyRepositoryAdapter;
+    private final Duration refreshInterval;
+    private final Duration rotationInterval;
+    private final Duration retention;
+    private final SecretKey keyEncryptionKey;
+
+    private volatile Keys keys;
+    private volatile long nextUnknownKeyReloadNanos = System.nanoTime();
+
+    private record Keys(RSAKey signingKey, JWKSet all, LocalDateTime newestCreatedAt) {
+    }
+
+    public JwkKeyStore(JwkKeyRepositoryAdapter jwkKeyRepositoryAdapter,
+                       @Value("${application.security.jwk.refresh-interval:PT5M}") Duration refreshInterval,
+                       @Value("${application.security.jwk.rotation-interval:P30D}") Duration rotationInterval,
+                       @Value("${application.security.jwk.retention:P8D}") Duration retention,
+                       @Value("${application.security.jwk.encryption-key}") String encryptionKey) {
+        this.jwkKeyRepositoryAdapter = jwkKeyRepositoryAdapter;
+        this.refreshInterval = refreshInterval;
+        this.rotationInterval = rotationInterval;
+        this.retention = retention;
+        this.keyEncryptionKey = keyEncryptionKey(encryptionKey);
+
+        reload();
+        if (keys == null) {
+            // First start against this database
+            rotate();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> selected = jwkSelector.select(keys.all());
+        Set<String> keyIds = jwkSelector.getMatcher().getKeyIDs();
+
+        if (selected.isEmpty() && keyIds != null && !keyIds.isEmpty()
+                && System.nanoTime() - nextUnknownKeyReloadNanos >= 0) {
+            log.debug("Unknown key id {}, reloading signing keys", keyIds);
+            nextUnknownKeyReloadNanos = System.nanoTime() + MIN_RELOAD_INTERVAL.toNanos();
+            reload();
+            selected = jwkSelector.select(keys.all());
+        }
+        return selected;
+    }
+
+    /**
+     * @return a source exposing only the current signing key, for the encoder
+     */
+    public JWKSource<SecurityContext> signingKeySource() {
+        return (jwkSelector, context) -> jwkSelector.select(new JWKSet(keys.signingKey()));
+    }
+
+    /**
+     * @return the public half of every key, as published on the JWKS endpoint
+     */
+    public JWKSet publicKeys() {
+        return keys.all().toPublicJWKSet();
+    }
+
+    @Scheduled(initialDelayString = "${application.security.jwk.refresh-interval:PT5M}",
+            fixedDelayString = "${application.security.jwk.refresh-interval:PT5M}")
+    public void refresh() {
+        reload();
+
+        if (keys.newestCreatedAt().isBefore(LocalDateTime.now().minus(rotationInterval))) {
+            rotate();
+        }
+
+        // A key signs for at most rotation-interval (plus the refresh-interval it waits to be published), then
+        // the tokens it signed stay valid for at most retention
+        LocalDateTime cutoff = LocalDateTime.now().minus(rotationInterval).minus(refreshInterval).minus(retention);
+        if (jwkKeyRepositoryAdapter.deleteCreatedBefore(cutoff, keys.signingKey().getKeyID()) > 0) {
+            reload();
+        }
+    }
+
+    /**
+     * Creates a new key. Other nodes load it within {@code refresh-interval}; it only starts signing after that.
+     */
+    public synchronized void rotate() {
+        try {
+            RSAKey rsaKey = new RSAKeyGenerator(KEY_SIZE)
+                    .keyID(UUID.randomUUID().toString())
+                    .generate();
+            jwkKeyRepositoryAdapter.save(new SigningKey(rsaKey.getKeyID(), encrypt(rsaKey), LocalDateTime.now()));
+            log.info("Created signing key {}", rsaKey.getKeyID());
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate a signing key", e);
+        }
+        reload();
+    }
+
+    private synchronized void reload() {
+        List<SigningKey> stored = jwkKeyRepositoryAdapter.findAll();
+        if (stored.isEmpty()) {
+            return;
+        }
+
+        List<JWK> parsed = stored.stream().map(this::decrypt).toList();
+
+        // Newest key old enough for every node to know it, or the newest one when none is (first start)
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(refreshInterval);
+        RSAKey signingKey = parsed.getFirst().toRSAKey();
+        for (int i = 0; i < stored.size(); i++) {
+            if (!stored.get(i).createdAt().isAfter(publishedBefore)) {
+                signingKey = parsed.get(i).toRSAKey();
+                break;
+            }
+        }
+
+        Keys previous = keys;
+        keys = new Keys(signingKey, new JWKSet(parsed), stored.getFirst().createdAt());
+        if (previous == null || !previous.signingKey().getKeyID().equals(signingKey.getKeyID())) {
+            log.info("Signing tokens with key {} ({} keys loaded)", signingKey.getKeyID(), parsed.size());
+        }
+    }
+
+    private String encrypt(RSAKey rsaKey) throws JOSEException {
+        JWEObject jwe = new JWEObject(new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
+                .keyID(rsaKey.getKeyID())
+                .build(), new Payload(rsaKey.toJSONString()));
+        jwe.encrypt(new DirectEncrypter(keyEncryptionKey));
+        return jwe.serialize();
+    }
+
+    private JWK decrypt(SigningKey signingKey) {
+        try {
+            JWEObject jwe = JWEObject.parse(signingKey.jwk());
+            if (!signingKey.keyId().equals(jwe.getHeader().getKeyID())) {
+                throw new IllegalStateException("Signing key " + signingKey.keyId() + " is stored under another id");
+            }
+            jwe.decrypt(new DirectDecrypter(keyEncryptionKey));
+            return RSAKey.parse(jwe.getPayload().toString());
+        } catch (ParseException | JOSEException e) {
+            throw new IllegalStateException("Unreadable signing key " + signingKey.keyId(), e);
+        }
+    }
+
+    private static SecretKey keyEncryptionKey(String encryptionKey) {
+        byte[] key = Base64.getDecoder().decode(encryptionKey);
+        if (key.length != 32) {
+            throw new IllegalArgumentException("application.security.jwk.encryption-key must be 32 bytes, base64 encoded");
+        }
+        return new SecretKeySpec(key, "AES");
+    }
+}
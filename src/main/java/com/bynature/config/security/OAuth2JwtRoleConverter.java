@@ -2,7 +2,6 @@ package com.bynature.config.security;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.ArrayList;
@@ -14,21 +13,28 @@ public class OAuth2JwtRoleConverter implements Converter<Jwt, Collection<Granted
     private static final String SCOPE_CLAIM = "scope";
     private static final String ROLE_CLAIM = "roles";
 
+    private final AuthorityRegistry authorityRegistry;
+
+    public OAuth2JwtRoleConverter(AuthorityRegistry authorityRegistry) {
+        this.authorityRegistry = authorityRegistry;
+    }
+
     @Override
     public Collection<GrantedAuthority> convert(Jwt jwt) {
-
-        // Add scopes as authorities with SCOPE_ prefix
         List<String> scopes = extractClaim(jwt, SCOPE_CLAIM);
-        List<GrantedAuthority> authorities = new ArrayList<>(scopes.stream()
-                .map(scope -> new SimpleGrantedAuthority("SCOPE_" + scope))
-                .toList());
-
-        // Add roles as authorities with ROLE_ prefix
         List<String> roles = extractClaim(jwt, ROLE_CLAIM);
-        authorities.addAll(roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .toList());
+        if (scopes.isEmpty() && roles.isEmpty()) {
+            return List.of();
+        }
 
+        // Scopes as SCOPE_ authorities, then roles as ROLE_ authorities, shared instances from the registry
+        List<GrantedAuthority> authorities = new ArrayList<>(scopes.size() + roles.size());
+        for (String scope : scopes) {
+            authorities.add(authorityRegistry.scope(scope));
+        }
+        for (String role : roles) {
+            authorities.add(authorityRegistry.role(role));
+        }
         return authorities;
     }
 
@@ -43,4 +49,4 @@ public class OAuth2JwtRoleConverter implements Converter<Jwt, Collection<Granted
         }
         return List.of();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.bynature.config.security;
+
+import java.time.Duration;
+
+/**
+ * A token bucket: holds up to {@code capacity} requests and refills completely over {@code period}, one token every
+ * {@link #interval()}.
+ */
+public record RateLimit(String name, int capacity, Duration period) {
+
+    public RateLimit {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Invalid rate limit " + name + ": " + capacity + " per " + period);
+        }
+    }
+
+    public Duration interval() {
+        return period.dividedBy(capacity);
+    }
+
+    /**
+     * How far ahead of the refill a bucket may run: a full bucket has {@code capacity - 1} more tokens than the one
+     * being taken.
+     */
+    public Duration tolerance() {
+        return interval().multipliedBy(capacity - 1L);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bynature.config.security;
+
+/**
+ * Where rate limit buckets live. The in-memory backend limits each node on its own; the database backend shares the
+ * buckets between nodes. Chosen with {@code application.rate-limit.backend}.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     *
+     * @return zero if a token was taken, otherwise how long until one is available, in nanoseconds
+     */
+    long tryAcquire(String key, RateLimit limit);
+}
@@ -0,0 +1,49 @@
+package com.bynature.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            RateLimitBackend rateLimitBackend,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.rate-limit.login.capacity:10}") int loginCapacity,
+            @Value("${application.rate-limit.login.period:PT1M}") Duration loginPeriod,
+            @Value("${application.rate-limit.client-token.capacity:20}") int clientTokenCapacity,
+            @Value("${application.rate-limit.client-token.period:PT1M}") Duration clientTokenPeriod,
+            @Value("${application.rate-limit.payment-intent.capacity:5}") int paymentIntentCapacity,
+            @Value("${application.rate-limit.payment-intent.period:PT1M}") Duration paymentIntentPeriod) {
+        return new RateLimitFilter(rateLimitBackend, List.of(
+                new RateLimitFilter.Rule(HttpMethod.POST, "/auth/login",
+                        new RateLimit("login", loginCapacity, loginPeriod), RateLimitFilter.KeyType.CLIENT_IP),
+                new RateLimitFilter.Rule(HttpMethod.POST, "/auth/client/token",
+                        new RateLimit("client-token", clientTokenCapacity, clientTokenPeriod),
+                        RateLimitFilter.KeyType.CLIENT_IP),
+                new RateLimitFilter.Rule(HttpMethod.POST, "/create-payment-intent",
+                        new RateLimit("payment-intent", paymentIntentCapacity, paymentIntentPeriod),
+                        RateLimitFilter.KeyType.PRINCIPAL)),
+                objectMapper, meterRegistry);
+    }
+
+    /**
+     * The filter runs in the security chain only, after authentication; not a second time as a servlet filter.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
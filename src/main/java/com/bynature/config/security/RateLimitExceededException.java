@@ -0,0 +1,34 @@
+package com.bynature.config.security;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when a rate limit checked outside {@link RateLimitFilter} refuses a request. Answered with a 429 and a
+ * {@code Retry-After} header, like the filter does.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String limit;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String limit, long waitNanos) {
+        super("Too many requests, retry in " + retryAfterSeconds(waitNanos) + " seconds");
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds(waitNanos);
+    }
+
+    public String getLimit() {
+        return limit;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Rounds a wait up to whole seconds, at least one, as {@code Retry-After} expects.
+     */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,122 @@
+package com.bynature.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Limits the requests each caller can make to expensive routes: logins (one BCrypt each) and payment intents (one
+ * Stripe call each). Requests over the limit get a 429 with a {@code Retry-After} header. Runs inside the security
+ * chain after bearer token authentication, so authenticated routes are limited per principal rather than per address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final URI PROBLEM_TYPE = URI.create("https://api.bynature.com/errors/rate-limited");
+
+    public enum KeyType {
+        CLIENT_IP,
+        // The authenticated user or app client, the client address for anonymous requests
+        PRINCIPAL
+    }
+
+    public record Rule(HttpMethod method, String path, RateLimit limit, KeyType keyType) {
+    }
+
+    private final RateLimitBackend backend;
+    private final List<Rule> rules;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Counter> rejected;
+
+    public RateLimitFilter(RateLimitBackend backend, List<Rule> rules, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.rules = List.copyOf(rules);
+        this.objectMapper = objectMapper;
+        this.rejected = rules.stream()
+                .map(rule -> rule.limit().name())
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), name -> Counter.builder("http.rate-limit.rejected")
+                        .description("Requests refused by a rate limit")
+                        .tag("limit", name)
+                        .register(meterRegistry)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = findRule(request);
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = backend.tryAcquire(rule.limit().name() + ':' + key(rule, request), rule.limit());
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(rule.limit().name()).increment();
+        long retryAfterSeconds = RateLimitExceededException.retryAfterSeconds(waitNanos);
+        log.debug("Rate limit {} exceeded by {}, retry in {}s", rule.limit().name(), key(rule, request),
+                retryAfterSeconds);
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests, retry in " + retryAfterSeconds + " seconds");
+        problem.setTitle("Rate limit exceeded");
+        problem.setType(PROBLEM_TYPE);
+        problem.setProperty("timestamp", Instant.now());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : rules) {
+            if (rule.method().matches(request.getMethod()) && rule.path().equals(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String key(Rule rule, HttpServletRequest request) {
+        if (rule.keyType() == KeyType.PRINCIPAL) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "principal:" + authentication.getName();
+            }
+        }
+        // The direct peer: behind a proxy, server.forward-headers-strategy makes this the forwarded client address
+        return "ip:" + request.getRemoteAddr();
+    }
+}
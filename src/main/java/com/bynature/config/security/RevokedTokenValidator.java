@@ -0,0 +1,35 @@
+package com.bynature.config.security;
+
+import com.bynature.application.service.RevokedTokenFamilies;
+import com.bynature.application.service.TokenService;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.UUID;
+
+/**
+ * Rejects tokens of a revoked refresh token family. Tokens without a family (user logins) are not revocable and pass.
+ */
+public class RevokedTokenValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+            "The token has been revoked", null);
+
+    private final RevokedTokenFamilies revokedTokenFamilies;
+
+    public RevokedTokenValidator(RevokedTokenFamilies revokedTokenFamilies) {
+        this.revokedTokenFamilies = revokedTokenFamilies;
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String familyId = jwt.getClaimAsString(TokenService.FAMILY_CLAIM);
+        if (familyId != null && revokedTokenFamilies.isRevoked(UUID.fromString(familyId))) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
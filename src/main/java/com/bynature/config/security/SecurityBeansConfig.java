@@ -1,33 +1,38 @@
 package com.bynature.config.security;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.bynature.application.service.RevokedTokenFamilies;
+import com.bynature.domain.model.Role;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class SecurityBeansConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${application.security.password.strength:0}") int strength,
+            @Value("${application.security.password.target-hash-time:PT0.25S}") Duration targetHashTime,
+            @Value("${application.security.password.min-strength:10}") int minStrength,
+            @Value("${application.security.password.max-strength:14}") int maxStrength) {
+        if (strength > 0) {
+            return new AdaptivePasswordEncoder(strength);
+        }
+        return AdaptivePasswordEncoder.calibrated(targetHashTime, minStrength, maxStrength);
     }
 
     @Bean
@@ -36,39 +41,43 @@ public class SecurityBeansConfig {
     }
 
     @Bean
-    public JWKSource<SecurityContext> jwkSource() {
-        KeyPair keyPair = generateRsaKey();
-        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
-
-        RSAKey rsaKey = new RSAKey.Builder(publicKey)
-                .privateKey(privateKey)
-                .keyID(UUID.randomUUID().toString())
-                .build();
+    public JWKSource<SecurityContext> jwkSource(JwkKeyStore jwkKeyStore) {
+        return jwkKeyStore;
+    }
 
-        JWKSet jwkSet = new JWKSet(rsaKey);
-        return new ImmutableJWKSet<>(jwkSet);
+    @Bean
+    public JwtEncoder jwtEncoder(JwkKeyStore jwkKeyStore) {
+        // Only the current signing key: the encoder refuses to choose between several matching keys
+        return new NimbusJwtEncoder(jwkKeyStore.signingKeySource());
     }
 
     @Bean
-    public JwtEncoder jwtEncoder(JWKSource<SecurityContext> jwkSource) {
-        return new NimbusJwtEncoder(jwkSource);
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource,
+                                 RevokedTokenFamilies revokedTokenFamilies,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${application.cache.jwt.maximum-size:10000}") long maximumSize) {
+        // Clients present the same token for its whole life, verify its signature once, but check revocation every time
+        return new CachingJwtDecoder(OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource),
+                new RevokedTokenValidator(revokedTokenFamilies), meterRegistry, maximumSize);
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
-        return OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+    public AuthorityRegistry authorityRegistry(
+            @Value("${application.security.role-scopes.customer:customer:read,customer:write,item:read}") List<String> customerScopes,
+            @Value("${application.security.role-scopes.vendor:}") List<String> vendorScopes,
+            @Value("${application.security.role-scopes.admin:admin:read,admin:write,customer:read,customer:write,item:read,item:write}") List<String> adminScopes) {
+        return new AuthorityRegistry(Map.of(
+                Role.CUSTOMER, customerScopes,
+                Role.VENDOR, vendorScopes,
+                Role.ADMIN, adminScopes));
     }
 
-    private KeyPair generateRsaKey() {
-        KeyPair keyPair;
-        try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            keyPair = keyPairGenerator.generateKeyPair();
-        } catch (Exception ex) {
-            throw new IllegalStateException(ex);
-        }
-        return keyPair;
+    @Bean
+    public CachingJwtAuthoritiesConverter jwtAuthoritiesConverter(
+            AuthorityRegistry authorityRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${application.cache.jwt.maximum-size:10000}") long maximumSize) {
+        return new CachingJwtAuthoritiesConverter(new OAuth2JwtRoleConverter(authorityRegistry), meterRegistry,
+                maximumSize);
     }
 }
\ No newline at end of file
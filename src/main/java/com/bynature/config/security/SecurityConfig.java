@@ -3,6 +3,7 @@ package com.bynature.config.security;
 import com.bynature.domain.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -21,6 +22,7 @@ import org.springframework.security.oauth2.server.authorization.settings.TokenSe
 import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
 import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -39,15 +41,21 @@ public class SecurityConfig {
     private final UserRepository userRepository;
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
+    private final CachingJwtAuthoritiesConverter jwtAuthoritiesConverter;
+    private final RateLimitFilter rateLimitFilter;
 
     public SecurityConfig(UserAuthenticationProvider authenticationProvider,
                           UserRepository userRepository,
                           JwtEncoder jwtEncoder,
-                          JwtDecoder jwtDecoder) {
+                          JwtDecoder jwtDecoder,
+                          CachingJwtAuthoritiesConverter jwtAuthoritiesConverter,
+                          RateLimitFilter rateLimitFilter) {
         this.authenticationProvider = authenticationProvider;
         this.userRepository = userRepository;
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
+        this.jwtAuthoritiesConverter = jwtAuthoritiesConverter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
    /* @Bean
@@ -85,7 +93,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         JwtAuthenticationConverter jwtConverter = new JwtAuthenticationConverter();
-        jwtConverter.setJwtGrantedAuthoritiesConverter(new OAuth2JwtRoleConverter());
+        jwtConverter.setJwtGrantedAuthoritiesConverter(jwtAuthoritiesConverter);
 
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -93,8 +101,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/client/token", "/auth/client/refresh").permitAll()
                         .requestMatchers("/auth/login").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
                         .requestMatchers("/webhook/stripe").permitAll() // Stripe webhooks (no auth)
+                        // Shipping and delivery waves are run by the back office
+                        .requestMatchers(HttpMethod.PATCH, "/orders/status").hasAuthority("SCOPE_admin:write")
                         // Payment endpoint requires authentication (client or user token)
                         .anyRequest().authenticated()
                 )
@@ -106,6 +117,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
+                // After authentication, so authenticated callers are limited by principal
+                .addFilterAfter(rateLimitFilter, BearerTokenAuthenticationFilter.class)
                 .build();
     }
 
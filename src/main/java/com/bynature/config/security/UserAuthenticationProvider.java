@@ -1,31 +1,39 @@
 package com.bynature.config.security;
 
+import com.bynature.application.service.LastLoginRecorder;
 import com.bynature.domain.model.User;
 import com.bynature.domain.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Component
 public class UserAuthenticationProvider implements AuthenticationProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(UserAuthenticationProvider.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final AuthorityRegistry authorityRegistry;
+    private final AccountRateLimiter accountRateLimiter;
 
-    public UserAuthenticationProvider(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserAuthenticationProvider(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                      LastLoginRecorder lastLoginRecorder, AuthorityRegistry authorityRegistry,
+                                      AccountRateLimiter accountRateLimiter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.authorityRegistry = authorityRegistry;
+        this.accountRateLimiter = accountRateLimiter;
     }
 
     @Override
@@ -33,6 +41,10 @@ public class UserAuthenticationProvider implements AuthenticationProvider {
         String email = authentication.getName();
         String password = authentication.getCredentials().toString();
 
+        // Before any password check, so guesses spread over many addresses are limited too. Not an
+        // AuthenticationException: the provider manager lets it through to be answered with a 429
+        accountRateLimiter.acquireLogin(email);
+
         Optional<User> userOptional = userRepository.getUserByEmail(email);
 
         if (userOptional.isEmpty()) {
@@ -49,18 +61,18 @@ public class UserAuthenticationProvider implements AuthenticationProvider {
             throw new BadCredentialsException("User account is not active");
         }
 
-        // Create authorities from role and add custom scopes based on role
-        var authorities = Stream.concat(
-                Stream.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())),
-                getRoleScopes(user).stream().map(scope -> new SimpleGrantedAuthority("SCOPE_" + scope))
-        ).collect(Collectors.toList());
+        // Role authority and the scopes of the role, precomputed
+        var authorities = authorityRegistry.authoritiesOf(user.getRole());
 
-        // Update last login time
-        userRepository.updateUserLastLogin(user.getId());
+        upgradePasswordHash(user, password);
 
+        // Update last login time, written in the background
+        lastLoginRecorder.recordLogin(user.getId());
+
+        // The principal carries the user so the token can be issued without reading it again
         return new UsernamePasswordAuthenticationToken(
-                user.getEmail().email(),
-                user.getPassword(),
+                AuthenticatedUser.of(user),
+                null,
                 authorities);
     }
 
@@ -69,15 +81,19 @@ public class UserAuthenticationProvider implements AuthenticationProvider {
         return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
     }
 
-    private List<String> getRoleScopes(User user) {
-        // Map roles to appropriate scopes
-        switch (user.getRole()) {
-            case ADMIN:
-                return List.of("admin:read", "admin:write", "customer:read", "customer:write", "item:read", "item:write");
-            case CUSTOMER:
-                return List.of("customer:read", "customer:write", "item:read");
-            default:
-                return Collections.emptyList();
+    /**
+     * Rehashes the password at the current cost when it was hashed at another one. Only possible here, while the
+     * plain password is known.
+     */
+    private void upgradePasswordHash(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            userRepository.replacePasswordHash(user.getId(), user.getPassword(), passwordEncoder.encode(password));
+        } catch (RuntimeException e) {
+            // The old hash still works, try again on the next login
+            log.warn("Could not upgrade the password hash of user {}", user.getId(), e);
         }
     }
-}
\ No newline at end of file
+}
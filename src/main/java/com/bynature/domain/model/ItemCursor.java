@@ -0,0 +1,14 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in a catalog search: the sort keys of the last item returned, whichever sort is in use.
+ */
+public record ItemCursor(String name, double price, LocalDateTime createdAt, UUID itemId) {
+
+    public static ItemCursor of(Item item) {
+        return new ItemCursor(item.getName(), item.getPrice(), item.getCreatedAt(), item.getId());
+    }
+}
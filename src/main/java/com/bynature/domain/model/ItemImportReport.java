@@ -0,0 +1,17 @@
+package com.bynature.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are detailed in {@code errors}; {@code rejected} counts them
+ * all.
+ */
+public record ItemImportReport(long rows, long imported, long rejected, List<RowError> errors) {
+
+    public boolean errorsTruncated() {
+        return rejected > errors.size();
+    }
+
+    public record RowError(long line, List<String> violations) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.bynature.domain.model;
+
+/**
+ * One row of a supplier feed, before validation. {@code error} is set when the row could not be read into fields.
+ */
+public record ItemImportRow(long line, String name, String description, Double price, String imageUrl, String error) {
+
+    public static ItemImportRow of(long line, String name, String description, Double price, String imageUrl) {
+        return new ItemImportRow(line, name, description, price, imageUrl, null);
+    }
+
+    public static ItemImportRow unreadable(long line, String error) {
+        return new ItemImportRow(line, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bynature.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of catalog search results. {@code nextCursor} is null on the last page.
+ */
+public record ItemPage(List<Item> items, ItemCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
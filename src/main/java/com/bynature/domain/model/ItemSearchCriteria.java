@@ -0,0 +1,31 @@
+package com.bynature.domain.model;
+
+import com.bynature.domain.exception.ItemValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Catalog filters. Null bounds and a blank prefix mean no filtering on that field.
+ */
+public record ItemSearchCriteria(Double minPrice, Double maxPrice, String namePrefix, ItemSort sort) {
+
+    public ItemSearchCriteria {
+        List<String> violations = new ArrayList<>();
+        if (minPrice != null && minPrice < 0) {
+            violations.add("Minimum price cannot be negative");
+        }
+        if (maxPrice != null && maxPrice < 0) {
+            violations.add("Maximum price cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            violations.add("Minimum price cannot be greater than maximum price");
+        }
+        if (!violations.isEmpty()) {
+            throw new ItemValidationException(violations);
+        }
+
+        namePrefix = namePrefix == null || namePrefix.isBlank() ? null : namePrefix.trim();
+        sort = sort == null ? ItemSort.NAME : sort;
+    }
+}
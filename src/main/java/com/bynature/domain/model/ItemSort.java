@@ -0,0 +1,11 @@
+package com.bynature.domain.model;
+
+/**
+ * Orderings supported by catalog search. Ties are always broken by item id so pages are stable.
+ */
+public enum ItemSort {
+    NAME,
+    PRICE_ASC,
+    PRICE_DESC,
+    NEWEST
+}
@@ -0,0 +1,6 @@
+package com.bynature.domain.model;
+
+import java.util.UUID;
+
+public record ItemSuggestion(UUID itemId, String name) {
+}
@@ -0,0 +1,14 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in a customer's order history, ordered by creation date (newest first) then by id.
+ */
+public record OrderCursor(LocalDateTime createdAt, UUID orderId) {
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+}
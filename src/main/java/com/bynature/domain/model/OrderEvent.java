@@ -0,0 +1,26 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change in the life of an order, published to other systems through the order outbox.
+ *
+ * @param id the event's position in the outbox, null until it is stored. Events of one order are published in
+ *           increasing id order, at least once: consumers drop an id they already handled
+ */
+public record OrderEvent(Long id, UUID orderId, Type type, OrderStatus status, LocalDateTime occurredAt) {
+
+    public enum Type {
+        ORDER_CREATED,
+        ORDER_STATUS_CHANGED
+    }
+
+    public static OrderEvent created(Order order) {
+        return new OrderEvent(null, order.getId(), Type.ORDER_CREATED, order.getStatus(), order.getCreatedAt());
+    }
+
+    public static OrderEvent statusChanged(UUID orderId, OrderStatus status, LocalDateTime occurredAt) {
+        return new OrderEvent(null, orderId, Type.ORDER_STATUS_CHANGED, status, occurredAt);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bynature.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of a customer's order history. {@code nextCursor} is null on the last page.
+ */
+public record OrderPage(List<Order> orders, OrderCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,5 +1,15 @@
 package com.bynature.domain.model;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The life cycle of an order. Statuses only move forward: payment events arrive out of order, and a late one must not
+ * take an order back, for instance from PAYMENT_CONFIRMED to PAYMENT_PROCESSING. The current status is not a
+ * predecessor: an order already in it is left unchanged, so the same event applied twice changes and publishes nothing.
+ */
 public enum OrderStatus {
     CREATED,
     PAYMENT_INTEND_CREATED,
@@ -8,5 +18,32 @@ public enum OrderStatus {
     PAYMENT_FAILED,
     SHIPPED,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> PREDECESSORS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        PREDECESSORS.put(CREATED, EnumSet.noneOf(OrderStatus.class));
+        // A failed payment can be tried again with a new payment intent
+        PREDECESSORS.put(PAYMENT_INTEND_CREATED, EnumSet.of(CREATED, PAYMENT_FAILED));
+        PREDECESSORS.put(PAYMENT_PROCESSING, EnumSet.of(CREATED, PAYMENT_INTEND_CREATED, PAYMENT_FAILED));
+        PREDECESSORS.put(PAYMENT_FAILED, EnumSet.of(CREATED, PAYMENT_INTEND_CREATED, PAYMENT_PROCESSING));
+        PREDECESSORS.put(PAYMENT_CONFIRMED, EnumSet.of(CREATED, PAYMENT_INTEND_CREATED, PAYMENT_PROCESSING,
+                PAYMENT_FAILED));
+        PREDECESSORS.put(SHIPPED, EnumSet.of(PAYMENT_CONFIRMED));
+        PREDECESSORS.put(DELIVERED, EnumSet.of(SHIPPED));
+        PREDECESSORS.put(CANCELLED, EnumSet.of(CREATED, PAYMENT_INTEND_CREATED, PAYMENT_PROCESSING, PAYMENT_FAILED,
+                PAYMENT_CONFIRMED));
+    }
+
+    /**
+     * @return the statuses an order can move to this one from, this one excluded
+     */
+    public Set<OrderStatus> predecessors() {
+        return PREDECESSORS.get(this);
+    }
+
+    public boolean canFollow(OrderStatus current) {
+        return PREDECESSORS.get(this).contains(current);
+    }
 }
@@ -0,0 +1,18 @@
+package com.bynature.domain.model;
+
+/**
+ * What became of an order asked to move to a status. Only an {@link #UPDATED} order gets a status change event.
+ */
+public enum OrderStatusUpdateResult {
+    /** The order moved to the requested status. */
+    UPDATED,
+    /** The order already was in the requested status: nothing was written. */
+    UNCHANGED,
+    /** The order's status cannot move to the requested one, see {@link OrderStatus#predecessors()}: it was kept. */
+    REFUSED,
+    /**
+     * There is no such order. Only bulk updates report it, a single update throws
+     * {@link com.bynature.domain.exception.OrderNotFoundException}.
+     */
+    NOT_FOUND
+}
@@ -0,0 +1,11 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An issued refresh token. Tokens obtained from one another by refreshing share a family, which is revoked as a whole.
+ */
+public record RefreshToken(UUID tokenId, UUID familyId, String appClientId, LocalDateTime createdAt,
+                           LocalDateTime expiresAt) {
+}
@@ -0,0 +1,9 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A token signing key pair, kept as its JWK JSON so any node can load it.
+ */
+public record SigningKey(String keyId, String jwk, LocalDateTime createdAt) {
+}
@@ -0,0 +1,10 @@
+package com.bynature.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A verified Stripe event waiting to be applied, kept as the payload Stripe sent.
+ */
+public record StripeInboxEvent(String eventId, String eventType, String payload, LocalDateTime receivedAt,
+                               int attempts) {
+}
@@ -1,7 +1,11 @@
 package com.bynature.domain.repository;
 
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,11 +13,17 @@ public interface ItemRepository {
 
     UUID saveItem(Item item);
 
+    void saveItems(List<Item> items);
+
     void updateItem(Item item);
 
     Item getItem(UUID itemId);
 
+    List<Item> getItems(Collection<UUID> itemIds);
+
     void deleteItem(UUID itemId);
 
     List<Item> getAllItems();
+
+    ItemPage searchItems(ItemSearchCriteria criteria, ItemCursor after, int limit);
 }
@@ -0,0 +1,10 @@
+package com.bynature.domain.repository;
+
+import com.bynature.domain.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchRepository {
+
+    List<Item> searchItems(String text, int limit);
+}
@@ -0,0 +1,16 @@
+package com.bynature.domain.repository;
+
+import com.bynature.domain.model.OrderEvent;
+
+import java.util.Collection;
+
+/**
+ * Order events waiting to be published. Events are appended in the caller's transaction, so they are published if and
+ * only if the change they describe is committed.
+ */
+public interface OrderOutboxRepository {
+
+    void append(OrderEvent event);
+
+    void appendAll(Collection<OrderEvent> events);
+}
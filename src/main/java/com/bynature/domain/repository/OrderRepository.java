@@ -1,14 +1,19 @@
 package com.bynature.domain.repository;
 
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderCursor;
+import com.bynature.domain.model.OrderPage;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface OrderRepository {
 
-    UUID saveOrder(Order order);
+    Order saveOrder(Order order);
 
     void updateOrder(Order order);
 
@@ -16,9 +21,32 @@ public interface OrderRepository {
 
     void deleteOrder(UUID orderId);
 
-    void updateOrderStatus(UUID orderId, OrderStatus status);
-
-    void updateOrderStatus(UUID orderId, OrderStatus status, String paymentIntentId);
+    /**
+     * Moves the order to {@code status}, if its current status allows it.
+     *
+     * @return UPDATED, UNCHANGED if the order already was in {@code status}, or REFUSED if it was left in a status
+     * {@code status} cannot follow
+     * @throws com.bynature.domain.exception.OrderNotFoundException if there is no such order
+     */
+    OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status);
+
+    /**
+     * Moves the order to {@code status} and records its payment intent, if its current status allows it. When it does
+     * not, the payment intent is still recorded on an order that has none.
+     *
+     * @return as {@link #updateOrderStatus(UUID, OrderStatus)}
+     */
+    OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status, String paymentIntentId);
+
+    /**
+     * Moves every order whose current status allows it to {@code status}, in one transaction. Unlike
+     * {@link #updateOrderStatus(UUID, OrderStatus)}, a missing order does not fail the others.
+     *
+     * @return the result of each distinct id, in the order they were given
+     */
+    Map<UUID, OrderStatusUpdateResult> updateOrderStatuses(Collection<UUID> orderIds, OrderStatus status);
 
     List<Order> getOrdersByCustomer(UUID customerId);
+
+    OrderPage getOrdersByCustomer(UUID customerId, OrderCursor after, int limit);
 }
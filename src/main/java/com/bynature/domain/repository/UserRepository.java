@@ -2,6 +2,8 @@ package com.bynature.domain.repository;
 
 import com.bynature.domain.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,5 +25,17 @@ public interface UserRepository {
     
     void updateUserLastLogin(UUID userId);
 
+    /**
+     * Records several logins at once; a login older than the one already recorded is ignored.
+     */
+    void updateUsersLastLogin(Map<UUID, LocalDateTime> lastLogins);
+
+    /**
+     * Replaces the password hash, unless it was changed since {@code currentHash} was read.
+     *
+     * @return whether the hash was replaced
+     */
+    boolean replacePasswordHash(UUID userId, String currentHash, String newHash);
+
     Optional<User> getUserByCustomerId(UUID customerId);
 }
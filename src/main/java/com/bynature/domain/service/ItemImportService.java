@@ -0,0 +1,11 @@
+package com.bynature.domain.service;
+
+import com.bynature.domain.model.ItemImportReport;
+import com.bynature.domain.model.ItemImportRow;
+
+import java.util.stream.Stream;
+
+public interface ItemImportService {
+
+    ItemImportReport importItems(Stream<ItemImportRow> rows);
+}
@@ -0,0 +1,10 @@
+package com.bynature.domain.service;
+
+import com.bynature.domain.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchService {
+
+    List<Item> searchItems(String text, int limit);
+}
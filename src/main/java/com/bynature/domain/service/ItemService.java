@@ -1,7 +1,11 @@
 package com.bynature.domain.service;
 
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,7 +17,11 @@ public interface ItemService {
 
     Item getItem(UUID itemId) ;
 
+    List<Item> getItems(Collection<UUID> itemIds);
+
     void deleteItem(UUID itemId) ;
 
     List<Item> getAllItems();
+
+    ItemPage searchItems(ItemSearchCriteria criteria, ItemCursor after, int limit);
 }
@@ -0,0 +1,18 @@
+package com.bynature.domain.service;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemSuggestion;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ItemSuggestionService {
+
+    List<ItemSuggestion> suggest(String prefix, int limit);
+
+    void indexItem(Item item);
+
+    void removeItem(UUID itemId);
+
+    void rebuild();
+}
@@ -1,14 +1,19 @@
 package com.bynature.domain.service;
 
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderCursor;
+import com.bynature.domain.model.OrderPage;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface OrderService {
 
-    UUID createOrder(Order order);
+    Order createOrder(Order order);
 
     void updateOrder(Order order);
 
@@ -16,9 +21,22 @@ public interface OrderService {
 
     List<Order> getOrdersByCustomer(UUID customerId);
 
+    OrderPage getOrdersByCustomer(UUID customerId, OrderCursor after, int limit);
+
     void deleteOrder(UUID orderId);
 
-    void updateOrderStatus(UUID orderId, OrderStatus status);
+    /**
+     * @return REFUSED if the order's status cannot move to {@code status}, see {@link OrderStatus#predecessors()},
+     * UNCHANGED if the order already was in it
+     */
+    OrderStatusUpdateResult updateOrderStatus(UUID orderId, OrderStatus status);
+
+    OrderStatusUpdateResult updateOrderStatus(UUID orderId,OrderStatus status, String paymentIntentId);
 
-    void updateOrderStatus(UUID orderId,OrderStatus status, String paymentIntentId);
+    /**
+     * Bulk version of {@link #updateOrderStatus(UUID, OrderStatus)}, for shipping and delivery waves.
+     *
+     * @return the result of each distinct id, in the order they were given
+     */
+    Map<UUID, OrderStatusUpdateResult> updateOrderStatuses(Collection<UUID> orderIds, OrderStatus status);
 }
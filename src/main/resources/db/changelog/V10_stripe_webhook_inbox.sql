@@ -0,0 +1,15 @@
+-- Verified Stripe events waiting to be applied. The webhook answers once the event is stored here; workers apply it
+-- and delete the row. next_attempt_at is null for an event that failed too many times and waits for an operator
+create table stripe_webhook_inbox
+(
+    event_id        varchar(255)  not null,
+    event_type      varchar(255)  not null,
+    payload         text          not null,
+    received_at     timestamp(6)  not null,
+    attempts        integer       not null default 0,
+    next_attempt_at timestamp(6),
+    last_error      varchar(1000),
+    primary key (event_id)
+);
+
+create index idx_stripe_webhook_inbox_next_attempt_at on stripe_webhook_inbox (next_attempt_at);
@@ -0,0 +1,11 @@
+-- Order events waiting to be published, written in the transaction that changes the order. The relay publishes them
+-- in id order and deletes them
+create table order_outbox
+(
+    id          bigint       generated by default as identity,
+    order_id    uuid         not null,
+    event_type  varchar(50)  not null,
+    status      varchar(50)  not null,
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
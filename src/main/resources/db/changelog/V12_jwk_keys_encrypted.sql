@@ -0,0 +1,5 @@
+-- jwk_keys.jwk now holds each key pair encrypted as a compact JWE (dir, A256GCM) under the key-encryption key of
+-- application.security.jwk.encryption-key, set from the JWK_ENCRYPTION_KEY environment variable and never stored here.
+-- Keys stored before held their private half in clear and may have leaked with a dump: they are deleted rather than
+-- encrypted, nodes create a new key on start and tokens signed with the old keys must be issued again
+DELETE FROM jwk_keys;
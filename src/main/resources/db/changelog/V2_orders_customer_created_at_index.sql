@@ -0,0 +1,2 @@
+-- Supports keyset pagination of a customer's order history (newest first, id as tie-breaker)
+CREATE INDEX idx_orders_customer_created_at ON orders (customer_id, created_at DESC, id);
@@ -0,0 +1,4 @@
+-- Keyset pagination of the catalog, one index per sort order (item id as tie-breaker)
+CREATE INDEX idx_items_name ON items (name, id);
+CREATE INDEX idx_items_price ON items (price, id);
+CREATE INDEX idx_items_created_at ON items (created_at DESC, id);
@@ -0,0 +1,2 @@
+-- Case-insensitive name prefix search (lower(name) LIKE 'prefix%')
+CREATE INDEX idx_items_lower_name_prefix ON items (lower(name) varchar_pattern_ops);
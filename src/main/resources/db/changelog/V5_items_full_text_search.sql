@@ -0,0 +1,11 @@
+-- Full-text search over item names and descriptions, kept up to date by Postgres on every write
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE items ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('simple', name), 'A') ||
+                         setweight(to_tsvector('simple', description), 'B')) STORED;
+
+CREATE INDEX idx_items_search_vector ON items USING GIN (search_vector);
+
+-- Trigram index for typo-tolerant matching on names
+CREATE INDEX idx_items_name_trgm ON items USING GIN (name gin_trgm_ops);
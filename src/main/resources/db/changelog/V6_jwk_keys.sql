@@ -0,0 +1,10 @@
+-- Token signing keys shared by every node; the newest active key signs, all of them verify
+create table jwk_keys
+(
+    kid        varchar(64)   not null,
+    jwk        varchar(8192) not null,
+    created_at timestamp(6)  not null,
+    primary key (kid)
+);
+
+create index idx_jwk_keys_created_at on jwk_keys (created_at);
@@ -0,0 +1,17 @@
+-- Issued refresh tokens. A token is used once: refreshing marks it used and issues the next token of its family;
+-- presenting a used token again revokes the whole family
+create table refresh_tokens
+(
+    id            uuid         not null,
+    family_id     uuid         not null,
+    app_client_id varchar(255) not null,
+    created_at    timestamp(6) not null,
+    expires_at    timestamp(6) not null,
+    used_at       timestamp(6),
+    revoked_at    timestamp(6),
+    primary key (id)
+);
+
+create index idx_refresh_tokens_family_id on refresh_tokens (family_id);
+create index idx_refresh_tokens_app_client_id on refresh_tokens (app_client_id);
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
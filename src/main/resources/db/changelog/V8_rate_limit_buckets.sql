@@ -0,0 +1,10 @@
+-- Rate limit buckets shared by all nodes (application.rate-limit.backend: database). A bucket is the time, in epoch
+-- milliseconds, at which it is full again; a bucket past that time is the same as no bucket and gets deleted
+create table rate_limit_buckets
+(
+    bucket_key          varchar(255) not null,
+    theoretical_arrival bigint       not null,
+    primary key (bucket_key)
+);
+
+create index idx_rate_limit_buckets_theoretical_arrival on rate_limit_buckets (theoretical_arrival);
@@ -0,0 +1,11 @@
+-- Stripe events already applied, so a redelivered event is acknowledged without being applied twice. Stripe retries
+-- for up to three days; rows are kept longer than that and then deleted
+create table stripe_webhook_events
+(
+    event_id     varchar(255) not null,
+    event_type   varchar(255) not null,
+    processed_at timestamp(6) not null,
+    primary key (event_id)
+);
+
+create index idx_stripe_webhook_events_processed_at on stripe_webhook_events (processed_at);
@@ -4,6 +4,7 @@ import com.bynature.AbstractByNatureTest;
 import com.bynature.adapters.in.web.auth.AppClientAuthController.ClientAuthRequest;
 import com.bynature.adapters.in.web.auth.AppClientAuthController.RefreshTokenRequest;
 import com.bynature.adapters.in.web.auth.AppClientAuthController.TokenResponse;
+import com.bynature.application.service.TokenService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +16,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
 
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class AppClientAuthControllerE2ETest extends AbstractByNatureTest {
@@ -26,6 +29,9 @@ public class AppClientAuthControllerE2ETest extends AbstractByNatureTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    TokenService tokenService;
+
     @Test
     @DisplayName("When authenticating with valid client credentials, should return token")
     public void whenAuthenticatingWithValidCredentials_shouldReturnToken_E2E() {
@@ -121,6 +127,54 @@ public class AppClientAuthControllerE2ETest extends AbstractByNatureTest {
         assertThat(refreshResponse.getBody().accessToken()).isNotEqualTo(authResponse.getBody().accessToken());
     }
 
+    @Test
+    @DisplayName("When replaying a used refresh token, should revoke every token of its family")
+    public void whenReplayingUsedRefreshToken_shouldRevokeFamily_E2E() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<TokenResponse> authResponse = restTemplate.exchange(
+                "/auth/client/token",
+                HttpMethod.POST,
+                new HttpEntity<>(new ClientAuthRequest("bynature-front", "client-secret-123"), headers),
+                TokenResponse.class
+        );
+        String firstRefreshToken = authResponse.getBody().refreshToken();
+
+        ResponseEntity<TokenResponse> rotated = restTemplate.exchange(
+                "/auth/client/refresh",
+                HttpMethod.POST,
+                new HttpEntity<>(new RefreshTokenRequest(firstRefreshToken), headers),
+                TokenResponse.class
+        );
+        assertThat(rotated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(rotated.getBody().refreshToken()).isNotEqualTo(firstRefreshToken);
+        // Still good before the replay
+        tokenService.validateAndParseToken(rotated.getBody().accessToken());
+
+        // The first refresh token was already used: whoever presents it again holds a stolen copy
+        ResponseEntity<TokenResponse> replayed = restTemplate.exchange(
+                "/auth/client/refresh",
+                HttpMethod.POST,
+                new HttpEntity<>(new RefreshTokenRequest(firstRefreshToken), headers),
+                TokenResponse.class
+        );
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        // The whole family is revoked, tokens of the legitimate holder included
+        ResponseEntity<TokenResponse> refreshAfterReplay = restTemplate.exchange(
+                "/auth/client/refresh",
+                HttpMethod.POST,
+                new HttpEntity<>(new RefreshTokenRequest(rotated.getBody().refreshToken()), headers),
+                TokenResponse.class
+        );
+        assertThat(refreshAfterReplay.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThatThrownBy(() -> tokenService.validateAndParseToken(rotated.getBody().accessToken()))
+                .isInstanceOf(JwtValidationException.class);
+        assertThatThrownBy(() -> tokenService.validateAndParseToken(authResponse.getBody().accessToken()))
+                .isInstanceOf(JwtValidationException.class);
+    }
+
     @Test
     @DisplayName("When refreshing with invalid refresh token, should return unauthorized")
     public void whenRefreshingWithInvalidToken_shouldReturnUnauthorized_E2E() {
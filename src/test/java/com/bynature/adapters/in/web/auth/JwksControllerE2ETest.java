@@ -0,0 +1,33 @@
+package com.bynature.adapters.in.web.auth;
+
+import com.bynature.AbstractByNatureTest;
+import com.bynature.adapters.in.web.auth.AppClientAuthController.ClientAuthRequest;
+import com.bynature.adapters.in.web.auth.AppClientAuthController.TokenResponse;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class JwksControllerE2ETest extends AbstractByNatureTest {
+
+    @Test
+    @DisplayName("When fetching the JWKS, should publish the public key that signs tokens")
+    public void whenFetchingJwks_shouldPublishSigningPublicKey_E2E() throws Exception {
+        ResponseEntity<TokenResponse> tokenResponse = restTemplate.postForEntity("/auth/client/token",
+                new ClientAuthRequest("bynature-front", "client-secret-123"), TokenResponse.class);
+        String keyId = SignedJWT.parse(tokenResponse.getBody().accessToken()).getHeader().getKeyID();
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/.well-known/jwks.json", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JWKSet jwkSet = JWKSet.parse(response.getBody());
+        assertThat(jwkSet.getKeyByKeyId(keyId)).isNotNull();
+        assertThat(jwkSet.getKeys()).noneMatch(key -> key.isPrivate());
+    }
+}
@@ -0,0 +1,125 @@
+package com.bynature.adapters.in.web.auth;
+
+import com.bynature.AbstractByNatureTest;
+import com.bynature.adapters.in.web.auth.dto.AuthResponse;
+import com.bynature.adapters.in.web.auth.dto.LoginRequest;
+import com.bynature.application.service.LastLoginRecorder;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// Last logins are flushed by the test only: a scheduled flush during the login would add its update to the count
+@TestPropertySource(properties = "application.users.last-login.flush-interval=P365D")
+public class OAuth2LoginControllerE2ETest extends AbstractByNatureTest {
+
+    @Autowired
+    private StatementLog statementLog;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Test
+    @DisplayName("When logging in, should read the user once and write the last login once")
+    public void whenLoggingIn_shouldReadUserOnceAndUpdateOnce_E2E() throws Exception {
+        lastLoginRecorder.flush();
+        statementLog.clear();
+
+        ResponseEntity<AuthResponse> response = restTemplate.postForEntity("/auth/login",
+                new LoginRequest("john.doe@example.com", "Str0ngP@ssword123!"), AuthResponse.class);
+        List<String> duringLogin = statementLog.onUsersTable();
+        lastLoginRecorder.flush();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(duringLogin).hasSize(1).allMatch(sql -> sql.startsWith("select"));
+        assertThat(statementLog.onUsersTable()).hasSize(2)
+                .filteredOn(sql -> sql.startsWith("update")).hasSize(1);
+
+        // The claims come from the authenticated principal
+        var claims = SignedJWT.parse(response.getBody().token()).getJWTClaimsSet();
+        assertThat(claims.getStringClaim("user_id")).isEqualTo(response.getBody().userId().toString());
+        assertThat(claims.getStringClaim("email")).isEqualTo("john.doe@example.com");
+        assertThat(claims.getStringClaim("customer_id")).isNotBlank();
+    }
+
+    /**
+     * Records the SQL of every statement prepared on the application data source.
+     */
+    static class StatementLog {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> onUsersTable() {
+            return statements.stream()
+                    .map(sql -> sql.strip().toLowerCase(Locale.ROOT))
+                    .filter(sql -> sql.matches("(?s).*\\busers\\b.*"))
+                    .toList();
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(super.getConnection());
+                }
+            };
+        }
+
+        private Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            statements.add((String) args[0]);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    @TestConfiguration
+    static class StatementLogConfig {
+
+        @Bean
+        static StatementLog statementLog() {
+            return new StatementLog();
+        }
+
+        @Bean
+        static BeanPostProcessor statementLogDataSourceWrapper(StatementLog statementLog) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementLog.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bynature.adapters.in.web.item;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvRecordReader Tests")
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should split records and fields with CRLF or LF endings")
+    void shouldSplitRecordsAndFields() throws IOException {
+        List<CsvRecordReader.CsvRecord> records = readAll("a,b,c\r\nd,,f\ng,h,i");
+
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::fields).containsExactly(
+                List.of("a", "b", "c"), List.of("d", "", "f"), List.of("g", "h", "i"));
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::line).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with commas, doubled quotes and line breaks")
+    void shouldReadQuotedFields() throws IOException {
+        List<CsvRecordReader.CsvRecord> records = readAll("\"a, b\",\"say \"\"hi\"\"\",\"multi\nline\"\nnext,x,y\n");
+
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::fields).containsExactly(
+                List.of("a, b", "say \"hi\"", "multi\nline"), List.of("next", "x", "y"));
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::line).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines and keep line numbers")
+    void shouldSkipBlankLines() throws IOException {
+        List<CsvRecordReader.CsvRecord> records = readAll("a\n\r\n\nb\n\n");
+
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::fields).containsExactly(List.of("a"), List.of("b"));
+        assertThat(records).extracting(CsvRecordReader.CsvRecord::line).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should refuse an unterminated quote and a record over the length limit")
+    void shouldRefuseMalformedRecords() {
+        assertThatThrownBy(() -> readAll("a\n\"never closed,b\nc\n"))
+                .isInstanceOf(CsvRecordReader.MalformedRecordException.class)
+                .hasMessageContaining("Unterminated")
+                .extracting(e -> ((CsvRecordReader.MalformedRecordException) e).getLine())
+                .isEqualTo(2L);
+
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("x".repeat(20) + "\n"), 10);
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(CsvRecordReader.MalformedRecordException.class)
+                .hasMessageContaining("exceeds 10 characters");
+    }
+
+    private static List<CsvRecordReader.CsvRecord> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), 1024);
+        List<CsvRecordReader.CsvRecord> records = new ArrayList<>();
+        for (CsvRecordReader.CsvRecord record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+        }
+        return records;
+    }
+}
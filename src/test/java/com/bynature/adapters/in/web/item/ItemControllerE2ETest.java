@@ -4,20 +4,30 @@ import com.bynature.AbstractByNatureTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class ItemControllerE2ETest extends AbstractByNatureTest {
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     public void setUp() {
         // Authenticate before each test
@@ -83,6 +93,137 @@ public class ItemControllerE2ETest extends AbstractByNatureTest {
         assertThat(response.getBody()).isNotEmpty();
     }
 
+    @Test
+    public void whenGetAllItemsWithMatchingETag_shouldReturn304_E2E() {
+        ResponseEntity<byte[]> first = restTemplate.exchange("/items", HttpMethod.GET,
+                createAuthenticatedEntity(), byte[].class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotBlank();
+
+        HttpHeaders headers = createAuthenticatedHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<byte[]> second = restTemplate.exchange("/items", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(second.getHeaders().getETag()).isEqualTo(etag);
+    }
+
+    @Test
+    public void whenItemIsCreated_shouldChangeCatalogETag_E2E() {
+        String etagBefore = restTemplate.exchange("/items", HttpMethod.GET,
+                createAuthenticatedEntity(), byte[].class).getHeaders().getETag();
+
+        restTemplate.exchange("/items", HttpMethod.POST,
+                createAuthenticatedEntity(new ItemCreationRequest("ETag Item", "Description", 12.5, "http://test-image.jpg")),
+                UUID.class);
+
+        HttpHeaders headers = createAuthenticatedHeaders();
+        headers.setIfNoneMatch(etagBefore);
+        ResponseEntity<byte[]> response = restTemplate.exchange("/items", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etagBefore);
+    }
+
+    @Test
+    public void whenGetAllItemsAcceptingGzip_shouldReturnCompressedCatalog_E2E() throws IOException {
+        HttpHeaders headers = createAuthenticatedHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ResponseEntity<byte[]> response = restTemplate.exchange("/items", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            List<ItemRetrievalResponse> items = objectMapper.readValue(gzip.readAllBytes(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, ItemRetrievalResponse.class));
+            assertThat(items).isNotEmpty();
+        }
+    }
+
+    @Test
+    public void whenSearchItemsWithLimit_shouldReturnPagesInPriceOrder_E2E() {
+        ResponseEntity<ItemPageResponse> firstPage = restTemplate.exchange(
+                "/items?sort=price_asc&limit=2",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                ItemPageResponse.class
+        );
+
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).isNotNull();
+        assertThat(firstPage.getBody().items()).hasSize(2);
+        assertThat(firstPage.getBody().nextCursor()).isNotBlank();
+
+        ResponseEntity<ItemPageResponse> secondPage = restTemplate.exchange(
+                "/items?sort=price_asc&limit=2&after={after}",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                ItemPageResponse.class,
+                firstPage.getBody().nextCursor()
+        );
+
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody()).isNotNull();
+        assertThat(secondPage.getBody().items()).isNotEmpty();
+        assertThat(secondPage.getBody().items().getFirst().price())
+                .isGreaterThanOrEqualTo(firstPage.getBody().items().getLast().price());
+    }
+
+    @Test
+    public void whenSearchItemsWithUnknownSort_shouldReturn400_E2E() {
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange(
+                "/items?sort=popularity&limit=2",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                ProblemDetail.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void whenSearchItemsByText_shouldReturnMatchingItems_E2E() {
+        ResponseEntity<List<ItemRetrievalResponse>> response = restTemplate.exchange(
+                "/items/search?q={q}",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                new ParameterizedTypeReference<>() {
+                },
+                "keyboard"
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody()).extracting(ItemRetrievalResponse::name).contains("Mechanical Keyboard");
+    }
+
+    @Test
+    public void whenItemIsCreated_shouldBeSuggestedByNamePrefix_E2E() {
+        restTemplate.exchange("/items", HttpMethod.POST,
+                createAuthenticatedEntity(new ItemCreationRequest("Zephyr Linen Scarf", "Description", 35.0, "http://test-image.jpg")),
+                UUID.class);
+
+        ResponseEntity<List<ItemSuggestionResponse>> response = restTemplate.exchange(
+                "/items/suggest?prefix={prefix}",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                new ParameterizedTypeReference<>() {
+                },
+                "zephyr li"
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(ItemSuggestionResponse::name).containsExactly("Zephyr Linen Scarf");
+    }
+
     @Test
     public void whenGetNonExistingItem_shouldReturn404_E2E() {
         // Tentative de récupération d'un article inexistant using authenticated entity
@@ -0,0 +1,103 @@
+package com.bynature.adapters.in.web.item;
+
+import com.bynature.AbstractByNatureTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ItemImportControllerE2ETest extends AbstractByNatureTest {
+
+    @BeforeEach
+    public void setUp() {
+        authenticateUser();
+    }
+
+    @Test
+    public void whenImportingCsv_shouldImportValidRowsAndReportInvalidOnes_E2E() {
+        String prefix = "Csv Import " + UUID.randomUUID();
+        String csv = "name,description,price,image_url\r\n"
+                + prefix + " Soap,Olive oil soap,4.5,http://test.com/soap.jpg\r\n"
+                + "\"" + prefix + " Oil, cold pressed\",\"Says \"\"pure\"\"\nover two lines\",12,http://test.com/oil.jpg\r\n"
+                + ",No name,3,http://test.com/none.jpg\r\n"
+                + prefix + " Balm,Balm,free,http://test.com/balm.jpg\r\n";
+
+        ResponseEntity<ItemImportReportResponse> response = importFeed(csv, "text/csv");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ItemImportReportResponse report = response.getBody();
+        assertThat(report).isNotNull();
+        assertThat(report.rows()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errorsTruncated()).isFalse();
+        assertThat(report.errors()).extracting(ItemImportReportResponse.RowError::line).containsExactly(5L, 6L);
+        assertThat(report.errors().get(0).violations()).containsExactly("Item name cannot be null or empty");
+        assertThat(report.errors().get(1).violations()).containsExactly("Item price is not a number: free");
+
+        List<ItemRetrievalResponse> imported = searchByName(prefix);
+        assertThat(imported).extracting(ItemRetrievalResponse::name)
+                .containsExactlyInAnyOrder(prefix + " Soap", prefix + " Oil, cold pressed");
+        assertThat(imported).extracting(ItemRetrievalResponse::description)
+                .contains("Says \"pure\"\nover two lines");
+    }
+
+    @Test
+    public void whenImportingNdjson_shouldImportValidRowsAndReportInvalidOnes_E2E() {
+        String prefix = "Ndjson Import " + UUID.randomUUID();
+        String ndjson = "{\"name\":\"" + prefix + " Candle\",\"description\":\"Soy\",\"price\":9.9,\"imageUrl\":\"http://test.com/c.jpg\"}\n"
+                + "\n"
+                + "{\"name\":\"" + prefix + " Free\",\"description\":\"Soy\",\"price\":\"nine\",\"imageUrl\":\"http://test.com/f.jpg\"}\n"
+                + "not json\n"
+                + "{\"name\":\"" + prefix + " Cheap\",\"description\":\"Soy\",\"price\":-1,\"imageUrl\":\"http://test.com/n.jpg\"}\n";
+
+        ResponseEntity<ItemImportReportResponse> response = importFeed(ndjson, "application/x-ndjson");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ItemImportReportResponse report = response.getBody();
+        assertThat(report).isNotNull();
+        assertThat(report.rows()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(ItemImportReportResponse.RowError::line).containsExactly(3L, 4L, 5L);
+        assertThat(report.errors().get(2).violations()).containsExactly("Item price must be greater than 0");
+
+        assertThat(searchByName(prefix)).extracting(ItemRetrievalResponse::name).containsExactly(prefix + " Candle");
+    }
+
+    @Test
+    public void whenImportingCsvWithoutRequiredColumns_shouldReturnBadRequest_E2E() {
+        HttpHeaders headers = createAuthenticatedHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange("/items/import", HttpMethod.POST,
+                new HttpEntity<>("name,price\nSoap,4.5\n", headers), ProblemDetail.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<ItemImportReportResponse> importFeed(String body, String contentType) {
+        HttpHeaders headers = createAuthenticatedHeaders();
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        return restTemplate.exchange("/items/import", HttpMethod.POST, new HttpEntity<>(body, headers),
+                ItemImportReportResponse.class);
+    }
+
+    private List<ItemRetrievalResponse> searchByName(String prefix) {
+        ResponseEntity<ItemPageResponse> response = restTemplate.exchange("/items?name={name}&limit=100",
+                HttpMethod.GET, createAuthenticatedEntity(), ItemPageResponse.class, prefix);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().items();
+    }
+}
@@ -3,22 +3,36 @@ package com.bynature.adapters.in.web.order;
 import com.bynature.AbstractByNatureTest;
 import com.bynature.adapters.in.web.order.dto.request.OrderCreationRequest;
 import com.bynature.adapters.in.web.order.dto.request.OrderItemCreationRequest;
+import com.bynature.adapters.in.web.order.dto.request.OrderStatusUpdateRequest;
 import com.bynature.adapters.in.web.order.dto.request.ShippingAddressCreationRequest;
+import com.bynature.adapters.in.web.order.dto.response.OrderPageResponse;
 import com.bynature.adapters.in.web.order.dto.response.OrderRetrievalResponse;
+import com.bynature.adapters.in.web.order.dto.response.OrderStatusUpdateResponse;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+import com.bynature.domain.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 
 import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -33,6 +47,12 @@ public class OrderControllerE2ETest extends AbstractByNatureTest {
     private static final UUID VALID_CUSTOMER_ID = UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479");
     private static final UUID VALID_ITEM_ID = UUID.fromString("4ad102fd-bf4a-439f-8027-5c3cf527ffaf");
 
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
     @BeforeEach
     public void setUp() {
         // Authenticate before each test
@@ -159,6 +179,196 @@ public class OrderControllerE2ETest extends AbstractByNatureTest {
         });
     }
 
+    @Test
+    void whenFetchOrdersByCustomerWithCursor_thenPagesFollowEachOther_E2E() {
+        for (int i = 0; i < 3; i++) {
+            restTemplate.exchange("/orders", HttpMethod.POST,
+                    createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class);
+        }
+
+        ResponseEntity<OrderPageResponse> firstPage = restTemplate.exchange(
+                "/orders/customer/{id}?limit=2",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                OrderPageResponse.class,
+                VALID_CUSTOMER_ID
+        );
+
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).isNotNull();
+        assertThat(firstPage.getBody().orders()).hasSize(2);
+        assertThat(firstPage.getBody().nextCursor()).isNotBlank();
+
+        ResponseEntity<OrderPageResponse> secondPage = restTemplate.exchange(
+                "/orders/customer/{id}?limit=2&after={after}",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                OrderPageResponse.class,
+                VALID_CUSTOMER_ID, firstPage.getBody().nextCursor()
+        );
+
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody()).isNotNull();
+        assertThat(secondPage.getBody().orders()).isNotEmpty();
+        assertThat(secondPage.getBody().orders())
+                .extracting(OrderRetrievalResponse::id)
+                .doesNotContainAnyElementsOf(firstPage.getBody().orders().stream().map(OrderRetrievalResponse::id).toList());
+        assertThat(secondPage.getBody().orders().getFirst().createdAt())
+                .isBeforeOrEqualTo(firstPage.getBody().orders().getLast().createdAt());
+    }
+
+    @Test
+    void whenFetchOrdersByCustomerWithCursorOnly_thenReturnPage_E2E() {
+        for (int i = 0; i < 2; i++) {
+            restTemplate.exchange("/orders", HttpMethod.POST,
+                    createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class);
+        }
+        ResponseEntity<OrderPageResponse> firstPage = restTemplate.exchange(
+                "/orders/customer/{id}?limit=1",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                OrderPageResponse.class,
+                VALID_CUSTOMER_ID
+        );
+
+        ResponseEntity<OrderPageResponse> nextPage = restTemplate.exchange(
+                "/orders/customer/{id}?after={after}",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                OrderPageResponse.class,
+                VALID_CUSTOMER_ID, firstPage.getBody().nextCursor()
+        );
+
+        assertThat(nextPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(nextPage.getBody()).isNotNull();
+        assertThat(nextPage.getBody().orders())
+                .isNotEmpty()
+                .hasSizeLessThanOrEqualTo(20)
+                .extracting(OrderRetrievalResponse::id)
+                .doesNotContain(firstPage.getBody().orders().getFirst().id());
+    }
+
+    @Test
+    void whenFetchOrdersByCustomerWithInvalidCursor_thenReturnBadRequest_E2E() {
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange(
+                "/orders/customer/{id}?limit=2&after=not-a-cursor",
+                HttpMethod.GET,
+                createAuthenticatedEntity(),
+                ProblemDetail.class,
+                VALID_CUSTOMER_ID
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void whenUpdatingStatusOfOrderWave_thenEachOrderGetsItsResult_E2E() {
+        UUID paidOrderId = restTemplate.exchange("/orders", HttpMethod.POST,
+                createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class).getBody().id();
+        UUID unpaidOrderId = restTemplate.exchange("/orders", HttpMethod.POST,
+                createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class).getBody().id();
+        UUID missingOrderId = UUID.randomUUID();
+        orderService.updateOrderStatus(paidOrderId, OrderStatus.PAYMENT_CONFIRMED);
+
+        // Unpaid orders cannot be shipped
+        ResponseEntity<OrderStatusUpdateResponse> shipped = restTemplate.exchange(
+                "/orders/status",
+                HttpMethod.PATCH,
+                createAdminEntity(new OrderStatusUpdateRequest(
+                        List.of(paidOrderId, unpaidOrderId, missingOrderId), OrderStatus.SHIPPED)),
+                OrderStatusUpdateResponse.class
+        );
+
+        assertThat(shipped.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(shipped.getBody()).isNotNull();
+        assertThat(shipped.getBody().updated()).isEqualTo(1);
+        assertThat(shipped.getBody().refused()).isEqualTo(1);
+        assertThat(shipped.getBody().notFound()).isEqualTo(1);
+        assertThat(shipped.getBody().results())
+                .containsEntry(paidOrderId, OrderStatusUpdateResult.UPDATED)
+                .containsEntry(unpaidOrderId, OrderStatusUpdateResult.REFUSED)
+                .containsEntry(missingOrderId, OrderStatusUpdateResult.NOT_FOUND);
+        assertThat(restTemplate.exchange("/orders/{id}", HttpMethod.GET, createAuthenticatedEntity(),
+                OrderRetrievalResponse.class, paidOrderId).getBody().status()).isEqualTo(OrderStatus.SHIPPED.name());
+
+        // The same wave sent again
+        ResponseEntity<OrderStatusUpdateResponse> shippedAgain = restTemplate.exchange(
+                "/orders/status",
+                HttpMethod.PATCH,
+                createAdminEntity(new OrderStatusUpdateRequest(List.of(paidOrderId), OrderStatus.SHIPPED)),
+                OrderStatusUpdateResponse.class
+        );
+
+        assertThat(shippedAgain.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(shippedAgain.getBody()).isNotNull();
+        assertThat(shippedAgain.getBody().updated()).isZero();
+        assertThat(shippedAgain.getBody().unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void whenUpdatingStatusOfOrderWaveAsCustomer_thenReturnForbidden_E2E() {
+        UUID orderId = restTemplate.exchange("/orders", HttpMethod.POST,
+                createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class).getBody().id();
+
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange(
+                "/orders/status",
+                HttpMethod.PATCH,
+                createAuthenticatedEntity(new OrderStatusUpdateRequest(List.of(orderId), OrderStatus.SHIPPED)),
+                ProblemDetail.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void whenUpdatingOrderWaveToOtherStatus_thenReturnBadRequest_E2E() {
+        UUID orderId = restTemplate.exchange("/orders", HttpMethod.POST,
+                createAuthenticatedEntity(createValidOrderRequest()), OrderRetrievalResponse.class).getBody().id();
+
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange(
+                "/orders/status",
+                HttpMethod.PATCH,
+                createAdminEntity(new OrderStatusUpdateRequest(List.of(orderId), OrderStatus.CANCELLED)),
+                ProblemDetail.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.exchange("/orders/{id}", HttpMethod.GET, createAuthenticatedEntity(),
+                OrderRetrievalResponse.class, orderId).getBody().status()).isEqualTo(OrderStatus.CREATED.name());
+    }
+
+    @Test
+    void whenUpdatingStatusOfNoOrder_thenReturnBadRequest_E2E() {
+        ResponseEntity<ProblemDetail> response = restTemplate.exchange(
+                "/orders/status",
+                HttpMethod.PATCH,
+                createAdminEntity(new OrderStatusUpdateRequest(List.of(), OrderStatus.SHIPPED)),
+                ProblemDetail.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // Bulk status updates need the admin:write scope, which customers do not have: sign a token as a login of the
+    // seeded admin would
+    private <T> HttpEntity<T> createAdminEntity(T body) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("bynature")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.HOURS))
+                .subject("admin@bynature.com")
+                .claim("user_id", "a47ac10b-58cc-4372-a567-0e02b2c3d401")
+                .claim("email", "admin@bynature.com")
+                .claim("role", "ADMIN")
+                .claim("scope", "admin:read admin:write")
+                .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
     private static Stream<Arguments> invalidOrderRequests() {
         return Stream.of(
                 // Case: Null customer ID
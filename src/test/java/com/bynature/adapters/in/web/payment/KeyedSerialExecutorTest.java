@@ -0,0 +1,64 @@
+package com.bynature.adapters.in.web.payment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeyedSerialExecutor Tests")
+class KeyedSerialExecutorTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyedSerialExecutor<String> keyedExecutor = new KeyedSerialExecutor<>(executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should run the tasks of one key in submission order, one at a time")
+    void shouldRunTasksOfOneKeyInOrder() {
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] tasks = IntStream.range(0, 100)
+                .mapToObj(i -> keyedExecutor.execute("order", () -> {
+                    ran.add(i);
+                    if (i == 10) {
+                        throw new IllegalStateException("a failed task does not hold up the next ones");
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(tasks).exceptionally(e -> null).join();
+
+        assertThat(ran).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        assertThat(keyedExecutor.activeKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run the tasks of different keys in parallel")
+    void shouldRunTasksOfDifferentKeysInParallel() throws Exception {
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CompletableFuture<Void> first = keyedExecutor.execute("first", () -> {
+            try {
+                // Only finishes if the other key's task runs meanwhile
+                assertThat(secondStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        keyedExecutor.execute("second", secondStarted::countDown);
+
+        first.get(5, TimeUnit.SECONDS);
+    }
+}
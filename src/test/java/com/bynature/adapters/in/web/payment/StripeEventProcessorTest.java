@@ -0,0 +1,124 @@
+package com.bynature.adapters.in.web.payment;
+
+import com.bynature.domain.exception.OrderNotFoundException;
+import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+import com.bynature.domain.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.Stripe;
+import com.stripe.model.Charge;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.StripeObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StripeEventProcessor Tests")
+class StripeEventProcessorTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final StripeEventProcessor processor = new StripeEventProcessor(orderService, new ObjectMapper());
+    private final UUID orderId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should apply an event read from the payload Stripe sent")
+    void shouldApplyEventFromPayload() {
+        String payload = """
+                {"id": "evt_1", "object": "event", "api_version": "%s", "type": "charge.succeeded",
+                 "data": {"object": {"id": "ch_1", "object": "charge", "metadata": {"orderId": "%s"}}}}
+                """.formatted(Stripe.API_VERSION, orderId);
+
+        when(orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_CONFIRMED))
+                .thenReturn(OrderStatusUpdateResult.UPDATED);
+
+        assertThat(processor.orderIdOf(payload)).contains(orderId);
+        assertThat(processor.process(payload)).isEqualTo("Payment confirmed");
+        verify(orderService).updateOrderStatus(orderId, OrderStatus.PAYMENT_CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("Should ignore an event the order has moved past")
+    void shouldIgnoreStaleEvent() {
+        Event event = event("payment_intent.succeeded", Optional.empty());
+        when(event.getDataObjectDeserializer().getRawJson()).thenReturn("""
+                {"id": "pi_1", "metadata": {"orderId": "%s"}}
+                """.formatted(orderId));
+        when(orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_PROCESSING))
+                .thenReturn(OrderStatusUpdateResult.REFUSED);
+
+        assertThat(processor.process(event)).isEqualTo("Payment processing, ignored: the order has moved past it");
+    }
+
+    @Test
+    @DisplayName("Should fail on an event for an order that does not exist, so it is not acknowledged")
+    void shouldFailOnMissingOrder() {
+        Event event = event("payment_intent.succeeded", Optional.empty());
+        when(event.getDataObjectDeserializer().getRawJson()).thenReturn("""
+                {"id": "pi_1", "metadata": {"orderId": "%s"}}
+                """.formatted(orderId));
+        when(orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_PROCESSING))
+                .thenReturn(OrderStatusUpdateResult.NOT_FOUND);
+
+        assertThatThrownBy(() -> processor.process(event))
+                .isInstanceOf(OrderNotFoundException.class)
+                .hasMessage("Order not found with id: " + orderId);
+    }
+
+    @Test
+    @DisplayName("Should ignore an event for the status the order is already in")
+    void shouldIgnoreRepeatedStatus() {
+        // charge.failed following payment_intent.payment_failed for the same payment
+        Event event = event("charge.failed", Optional.empty());
+        when(event.getDataObjectDeserializer().getRawJson()).thenReturn("""
+                {"id": "ch_1", "metadata": {"orderId": "%s"}}
+                """.formatted(orderId));
+        when(orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_FAILED))
+                .thenReturn(OrderStatusUpdateResult.UNCHANGED);
+
+        assertThat(processor.process(event)).isEqualTo("Payment failed, ignored: already applied");
+    }
+
+    @Test
+    @DisplayName("Should read the order from the raw JSON when the object cannot be deserialized")
+    void shouldFallBackToRawJson() {
+        Event event = event("payment_intent.created", Optional.empty());
+        when(event.getDataObjectDeserializer().getRawJson()).thenReturn("""
+                {"id": "pi_1", "client_secret": "pi_1_secret", "metadata": {"orderId": "%s"}}
+                """.formatted(orderId));
+
+        when(orderService.updateOrderStatus(orderId, OrderStatus.PAYMENT_INTEND_CREATED, "pi_1_secret"))
+                .thenReturn(OrderStatusUpdateResult.UPDATED);
+
+        assertThat(processor.process(event)).isEqualTo("Payment intent created");
+        verify(orderService).updateOrderStatus(orderId, OrderStatus.PAYMENT_INTEND_CREATED, "pi_1_secret");
+    }
+
+    @Test
+    @DisplayName("Should refuse an event that can never be applied")
+    void shouldRefuseEventThatCannotBeApplied() {
+        Event event = event("payment_intent.created", Optional.of(mock(Charge.class)));
+
+        assertThatThrownBy(() -> processor.process(event)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> processor.process("not an event")).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderService);
+    }
+
+    private static Event event(String type, Optional<StripeObject> object) {
+        Event event = mock(Event.class);
+        EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getDataObjectDeserializer()).thenReturn(deserializer);
+        when(deserializer.getObject()).thenReturn(object);
+        return event;
+    }
+}
@@ -6,6 +6,7 @@ import com.bynature.adapters.in.web.order.dto.request.OrderItemCreationRequest;
 import com.bynature.adapters.in.web.order.dto.request.ShippingAddressCreationRequest;
 import com.bynature.adapters.in.web.order.dto.response.OrderRetrievalResponse;
 import com.bynature.domain.model.OrderStatus;
+import com.stripe.Stripe;
 import com.stripe.exception.SignatureVerificationException;
 import com.stripe.model.Event;
 import org.json.JSONException;
@@ -86,12 +87,10 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify order status was updated after a short delay
-        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
-        OrderRetrievalResponse order = retrieveOrder(testOrderId);
-        assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_INTEND_CREATED.toString());
+        // Verify order status was updated in the background
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_INTEND_CREATED);
     }
 
     @Test
@@ -110,12 +109,10 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify order status was updated
-        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
-        OrderRetrievalResponse order = retrieveOrder(testOrderId);
-        assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_PROCESSING.toString());
+        // Verify order status was updated in the background
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_PROCESSING);
     }
 
     @Test
@@ -134,12 +131,10 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify order status was updated
-        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
-        OrderRetrievalResponse order = retrieveOrder(testOrderId);
-        assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED.toString());
+        // Verify order status was updated in the background
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_CONFIRMED);
     }
 
     @Test
@@ -158,12 +153,10 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify order status was updated
-        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
-        OrderRetrievalResponse order = retrieveOrder(testOrderId);
-        assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_FAILED.toString());
+        // Verify order status was updated in the background
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_FAILED);
     }
 
     @Test
@@ -182,12 +175,10 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify order status was updated
-        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
-        OrderRetrievalResponse order = retrieveOrder(testOrderId);
-        assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_FAILED.toString());
+        // Verify order status was updated in the background
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_FAILED);
     }
 
     @Test
@@ -230,15 +221,62 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
     }
 
     @Test
-    @DisplayName("When deserializer returns empty object, should use raw JSON fallback and succeed")
-    void whenDeserializerReturnsEmptyObject_thenUseRawJsonFallback_E2E() throws Exception {
+    @DisplayName("When Stripe redelivers an event, it should be acknowledged without being applied again")
+    void whenEventRedelivered_thenAcknowledgeWithoutApplying_E2E() throws Exception {
+        // Given
+        String payload = createChargeEventPayload("charge.succeeded", testOrderId);
+        String signature = createMockStripeSignature();
+
+        Event chargeSucceeded = createMockEvent("charge.succeeded", payload);
+        when(webhookVerifier.verifyAndParseEvent(anyString(), anyString(), anyString()))
+                .thenReturn(chargeSucceeded);
+        assertThat(sendWebhookRequest(payload, signature).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_CONFIRMED);
+
+        // When: the same event again
+        ResponseEntity<String> redelivery = sendWebhookRequest(payload, signature);
+
+        // Then
+        assertThat(redelivery.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(redelivery.getBody()).isEqualTo("Event already processed");
+        assertThat(retrieveOrder(testOrderId).status()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED.toString());
+    }
+
+    @Test
+    @DisplayName("When payment events arrive out of order, order status should not go back")
+    void whenEventsArriveOutOfOrder_thenStatusDoesNotGoBack_E2E() throws Exception {
+        // Given: the charge succeeded before the payment intent's own event arrives
+        String chargePayload = createChargeEventPayload("charge.succeeded", testOrderId);
+        Event chargeSucceeded = createMockEvent("charge.succeeded", chargePayload);
+        when(webhookVerifier.verifyAndParseEvent(anyString(), anyString(), anyString()))
+                .thenReturn(chargeSucceeded);
+        sendWebhookRequest(chargePayload, createMockStripeSignature());
+        awaitOrderStatus(testOrderId, OrderStatus.PAYMENT_CONFIRMED);
+
+        // When
+        String intentPayload = createPaymentIntentEventPayload("payment_intent.succeeded", testOrderId);
+        Event intentSucceeded = createMockEvent("payment_intent.succeeded", intentPayload);
+        when(webhookVerifier.verifyAndParseEvent(anyString(), anyString(), anyString()))
+                .thenReturn(intentSucceeded);
+        ResponseEntity<String> response = sendWebhookRequest(intentPayload, createMockStripeSignature());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
+        assertThat(retrieveOrder(testOrderId).status()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED.toString());
+    }
+
+    @Test
+    @DisplayName("When the event's object has no orderId, should acknowledge it and leave orders untouched")
+    void whenEventWithoutOrderId_thenLeaveOrderUntouched_E2E() throws Exception {
         // Given
         String eventType = "payment_intent.created";
-        String payload = createPaymentIntentEventPayload(eventType, testOrderId);
+        JSONObject event = new JSONObject(createPaymentIntentEventPayload(eventType, testOrderId));
+        event.getJSONObject("data").getJSONObject("object").put("metadata", new JSONObject());
+        String payload = event.toString();
         String signature = createMockStripeSignature();
 
-        // Create an event with empty deserializer result (will trigger raw JSON fallback)
-        Event mockEvent = createEmptyObjectEvent(eventType, payload);
+        Event mockEvent = createMockEvent(eventType, payload);
         when(webhookVerifier.verifyAndParseEvent(anyString(), anyString(), anyString()))
                 .thenReturn(mockEvent);
 
@@ -246,10 +284,9 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         ResponseEntity<String> response = sendWebhookRequest(payload, signature);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).contains("Event acknowledged (no orderId)");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo("Event queued");
 
-        // Verify order status was updated using raw JSON parsing
         TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
         OrderRetrievalResponse order = retrieveOrder(testOrderId);
         assertThat(order.status()).isEqualTo(OrderStatus.CREATED.toString());
@@ -270,6 +307,14 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         return restTemplate.postForEntity("/webhook/stripe", request, String.class);
     }
 
+    private void awaitOrderStatus(UUID orderId, OrderStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!retrieveOrder(orderId).status().equals(status.toString()) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(WAIT_MILLIS);
+        }
+        assertThat(retrieveOrder(orderId).status()).isEqualTo(status.toString());
+    }
+
     private OrderRetrievalResponse retrieveOrder(UUID orderId) {
         return restTemplate.exchange(
                 "/orders/" + orderId,
@@ -295,6 +340,7 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         JSONObject event = new JSONObject();
         event.put("id", "evt_" + UUID.randomUUID().toString().replace("-", ""));
         event.put("object", "event");
+        event.put("api_version", Stripe.API_VERSION);
         event.put("type", eventType);
         event.put("data", data);
 
@@ -316,6 +362,7 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         JSONObject event = new JSONObject();
         event.put("id", "evt_" + UUID.randomUUID().toString().replace("-", ""));
         event.put("object", "event");
+        event.put("api_version", Stripe.API_VERSION);
         event.put("type", eventType);
         event.put("data", data);
 
@@ -326,6 +373,7 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         JSONObject event = new JSONObject();
         event.put("id", "evt_" + UUID.randomUUID().toString().replace("-", ""));
         event.put("object", "event");
+        event.put("api_version", Stripe.API_VERSION);
         event.put("type", eventType);
 
         return event.toString();
@@ -334,6 +382,7 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
     private Event createMockEvent(String eventType, String rawJson) {
         Event event = mock(Event.class);
         when(event.getType()).thenReturn(eventType);
+        when(event.getId()).thenReturn("evt_" + UUID.randomUUID().toString().replace("-", ""));
 
         // Mock the data deserializer
         com.stripe.model.EventDataObjectDeserializer deserializer = mock(com.stripe.model.EventDataObjectDeserializer.class);
@@ -367,19 +416,6 @@ public class StripeWebhookControllerE2E extends AbstractByNatureTest {
         return event;
     }
 
-    private Event createEmptyObjectEvent(String eventType, String rawJson) {
-        Event event = mock(Event.class);
-        when(event.getType()).thenReturn(eventType);
-
-        // Create deserializer that returns empty
-        com.stripe.model.EventDataObjectDeserializer deserializer = mock(com.stripe.model.EventDataObjectDeserializer.class);
-        when(event.getDataObjectDeserializer()).thenReturn(deserializer);
-        when(deserializer.getObject()).thenReturn(Optional.empty());
-        when(deserializer.getRawJson()).thenReturn(rawJson);
-
-        return event;
-    }
-
     private HttpHeaders createJsonHeaders() {
         HttpHeaders headers = createAuthenticatedHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,143 @@
+package com.bynature.adapters.in.web.payment;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookInboxRepositoryAdapter;
+import com.bynature.application.service.WebhookEventDeduplicator;
+import com.bynature.domain.exception.OrderNotFoundException;
+import com.bynature.domain.model.StripeInboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StripeWebhookInbox Tests")
+class StripeWebhookInboxTest {
+
+    private static final String EVENT_ID = "evt_1";
+
+    private final StripeWebhookInboxRepositoryAdapter adapter = mock(StripeWebhookInboxRepositoryAdapter.class);
+    private final StripeEventProcessor processor = mock(StripeEventProcessor.class);
+    private final WebhookEventDeduplicator deduplicator = mock(WebhookEventDeduplicator.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Backoff of 5s doubled on each attempt up to 1 minute, parked at the 5th attempt
+    private final StripeWebhookInbox inbox = new StripeWebhookInbox(adapter, processor, deduplicator, meterRegistry,
+            10, Duration.ofMinutes(5), Duration.ofSeconds(5), Duration.ofMinutes(1), 5, 2);
+
+    @AfterEach
+    void tearDown() {
+        inbox.shutdown();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 5", "2, 10", "3, 20", "4, 40"})
+    @DisplayName("Should retry a failed event after a backoff doubled on every attempt")
+    void shouldRetryFailedEventAfterBackoff(int attempts, long backoffSeconds) {
+        claim(attempts);
+        when(deduplicator.processOnce(eq(EVENT_ID), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        LocalDateTime before = LocalDateTime.now();
+        inbox.drain();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(adapter).reschedule(eq(EVENT_ID), nextAttemptAt.capture(), eq("db down"));
+        assertThat(nextAttemptAt.getValue())
+                .isBetween(before.plusSeconds(backoffSeconds), after.plusSeconds(backoffSeconds));
+        verify(adapter, never()).park(anyString(), any());
+        assertThat(count("retried")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cap the backoff")
+    void shouldCapBackoff() {
+        // A larger maximum of attempts, so the 10th is still retried
+        StripeWebhookInbox patientInbox = new StripeWebhookInbox(adapter, processor, deduplicator, meterRegistry,
+                10, Duration.ofMinutes(5), Duration.ofSeconds(5), Duration.ofMinutes(1), 20, 2);
+        claim(10);
+        when(deduplicator.processOnce(eq(EVENT_ID), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        LocalDateTime before = LocalDateTime.now();
+        patientInbox.drain();
+        LocalDateTime after = LocalDateTime.now();
+        patientInbox.shutdown();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(adapter).reschedule(eq(EVENT_ID), nextAttemptAt.capture(), any());
+        assertThat(nextAttemptAt.getValue()).isBetween(before.plusMinutes(1), after.plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should park an event that failed its last attempt")
+    void shouldParkEventAfterMaxAttempts() {
+        claim(5);
+        when(deduplicator.processOnce(eq(EVENT_ID), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        inbox.drain();
+
+        verify(adapter).park(EVENT_ID, "db down");
+        verify(adapter, never()).reschedule(anyString(), any(), any());
+        assertThat(count("parked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should park an event that can never be applied right away")
+    void shouldParkEventThatCannotBeApplied() {
+        UUID orderId = UUID.randomUUID();
+        when(adapter.claimDue(any(), any(), anyInt())).thenReturn(
+                List.of(event("evt_1", 1), event("evt_2", 1)), List.of());
+        when(deduplicator.processOnce(eq("evt_1"), any(), any()))
+                .thenThrow(new IllegalArgumentException("Invalid charge object"));
+        when(deduplicator.processOnce(eq("evt_2"), any(), any()))
+                .thenThrow(new OrderNotFoundException("Order not found with id: " + orderId, orderId));
+
+        inbox.drain();
+
+        verify(adapter).park("evt_1", "Invalid charge object");
+        verify(adapter).park("evt_2", "Order not found with id: " + orderId);
+        verify(adapter, never()).reschedule(anyString(), any(), any());
+        assertThat(count("parked")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should delete an event applied from an earlier delivery")
+    void shouldDeleteDuplicateEvent() {
+        claim(1);
+        when(deduplicator.processOnce(eq(EVENT_ID), any(), any())).thenReturn(Optional.empty());
+
+        inbox.drain();
+
+        verify(adapter).delete(EVENT_ID);
+        verify(adapter, never()).park(anyString(), any());
+        assertThat(count("duplicate")).isEqualTo(1);
+    }
+
+    private void claim(int attempts) {
+        when(adapter.claimDue(any(), any(), anyInt())).thenReturn(List.of(event(EVENT_ID, attempts)), List.of());
+    }
+
+    private static StripeInboxEvent event(String eventId, int attempts) {
+        return new StripeInboxEvent(eventId, "charge.succeeded", "{}", LocalDateTime.now(), attempts);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("stripe.webhook.inbox").tag("result", result).counter().count();
+    }
+}
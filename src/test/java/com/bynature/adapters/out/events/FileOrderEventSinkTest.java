@@ -0,0 +1,46 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileOrderEventSink Tests")
+class FileOrderEventSinkTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should append each event as a line of JSON")
+    void shouldAppendEventsAsJsonLines() throws IOException {
+        Path path = directory.resolve("order-events.jsonl");
+        FileOrderEventSink sink = new FileOrderEventSink(objectMapper, path);
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        sink.publish(List.of(new OrderEvent(1L, orderId, OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED, now)));
+        sink.publish(List.of(new OrderEvent(2L, orderId, OrderEvent.Type.ORDER_STATUS_CHANGED,
+                OrderStatus.PAYMENT_CONFIRMED, now)));
+
+        List<String> lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(1), OrderEvent.class))
+                .isEqualTo(new OrderEvent(2L, orderId, OrderEvent.Type.ORDER_STATUS_CHANGED,
+                        OrderStatus.PAYMENT_CONFIRMED, now));
+    }
+}
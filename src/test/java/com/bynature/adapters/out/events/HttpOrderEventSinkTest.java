@@ -0,0 +1,95 @@
+package com.bynature.adapters.out.events;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.OrderOutboxRepositoryAdapter;
+import com.bynature.application.service.OrderOutboxRelay;
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderStatus;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HttpOrderEventSink Tests")
+class HttpOrderEventSinkTest {
+
+    private final OrderOutboxRepositoryAdapter adapter = mock(OrderOutboxRepositoryAdapter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final UUID orderId = UUID.randomUUID();
+    private HttpServer server;
+    private volatile int answerStatus;
+
+    @BeforeEach
+    void startReceiver() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/order-events", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(answerStatus, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopReceiver() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should delete a batch the receiver accepted")
+    void shouldDeleteBatchReceiverAccepted() {
+        answerStatus = 204;
+        when(adapter.lockOldest(10)).thenReturn(List.of(event(1L), event(2L)), List.of());
+
+        newRelay().relay();
+
+        assertThat(receivedBodies).singleElement().asString().contains(orderId.toString(), "PAYMENT_CONFIRMED");
+        verify(adapter).delete(List.of(1L, 2L));
+        assertThat(meterRegistry.get("orders.outbox.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a batch in the outbox when the receiver answers an error")
+    void shouldKeepBatchWhenReceiverAnswersError() {
+        answerStatus = 500;
+        when(adapter.lockOldest(10)).thenReturn(List.of(event(1L), event(2L)));
+
+        newRelay().relay();
+
+        assertThat(receivedBodies).hasSize(1);
+        verify(adapter, never()).delete(any());
+        assertThat(meterRegistry.get("orders.outbox.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("orders.outbox.published").counter().count()).isZero();
+    }
+
+    private OrderOutboxRelay newRelay() {
+        HttpOrderEventSink sink = new HttpOrderEventSink(RestClient.builder(),
+                "http://localhost:" + server.getAddress().getPort() + "/order-events", Duration.ofSeconds(2));
+        return new OrderOutboxRelay(adapter, sink, TransactionOperations.withoutTransaction(), meterRegistry, 10);
+    }
+
+    private OrderEvent event(long id) {
+        return new OrderEvent(id, orderId, OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.PAYMENT_CONFIRMED,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.bynature.adapters.out.persistence.cache;
+
+import com.bynature.adapters.out.persistence.jpa.AbstractJpaTest;
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
+import com.bynature.domain.exception.ItemNotFoundException;
+import com.bynature.domain.model.Item;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ContextConfiguration(classes = {ItemRepositoryAdapter.class, CachingItemRepositoryAdapter.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Caching Item Repository Adapter Tests")
+public class CachingItemRepositoryAdapterTest extends AbstractJpaTest {
+
+    private static final UUID ITEM_ID = UUID.fromString("bc9264a3-8d7e-4971-870e-3b745f20a7fa");
+
+    @Autowired
+    private CachingItemRepositoryAdapter cachingItemRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("When the catalog is read twice, then the database is only queried once")
+    public void whenReadingCatalogTwice_thenDatabaseIsQueriedOnce() {
+        long firstRead = countStatements(() -> cachingItemRepository.getAllItems());
+        long secondRead = countStatements(() -> {
+            List<Item> items = cachingItemRepository.getAllItems();
+            assertThat(items).isNotEmpty();
+        });
+        // Loading the catalog also warms the by-id cache
+        long itemRead = countStatements(() -> assertThat(cachingItemRepository.getItem(ITEM_ID)).isNotNull());
+
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(secondRead).isZero();
+        assertThat(itemRead).isZero();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "items.catalog").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When an item is updated, then the next read sees the change")
+    public void whenUpdatingItem_thenCacheIsInvalidated() {
+        Item item = new Item("Cached Item", "Description", 10.0, "http://test.com/image.jpg");
+        cachingItemRepository.saveItem(item);
+        assertThat(cachingItemRepository.getItem(item.getId()).getPrice()).isEqualTo(10.0);
+        assertThat(cachingItemRepository.getAllItems()).extracting(Item::getId).contains(item.getId());
+
+        cachingItemRepository.updateItem(new Item(item.getId(), item.getName(), item.getDescription(), 20.0,
+                item.getImageUrl(), item.getCreatedAt(), item.getUpdatedAt()));
+
+        assertThat(cachingItemRepository.getItem(item.getId()).getPrice()).isEqualTo(20.0);
+        assertThat(cachingItemRepository.getAllItems())
+                .filteredOn(cached -> cached.getId().equals(item.getId()))
+                .extracting(Item::getPrice)
+                .containsExactly(20.0);
+    }
+
+    @Test
+    @DisplayName("When an item is deleted, then it is no longer served from cache")
+    public void whenDeletingItem_thenCacheIsInvalidated() {
+        Item item = new Item("Short Lived Item", "Description", 10.0, "http://test.com/image.jpg");
+        cachingItemRepository.saveItem(item);
+        cachingItemRepository.getAllItems();
+        cachingItemRepository.getItem(item.getId());
+
+        cachingItemRepository.deleteItem(item.getId());
+
+        assertThat(cachingItemRepository.getAllItems()).extracting(Item::getId).doesNotContain(item.getId());
+        assertThatThrownBy(() -> cachingItemRepository.getItem(item.getId()))
+                .isInstanceOf(ItemNotFoundException.class);
+    }
+
+    private long countStatements(Runnable action) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = testEntityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
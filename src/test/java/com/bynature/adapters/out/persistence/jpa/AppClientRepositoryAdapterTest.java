@@ -45,4 +45,17 @@ public class AppClientRepositoryAdapterTest extends AbstractJpaTest {
         // Assert
         assertThat(clients).isEmpty();
     }
+
+    @Test
+    @DisplayName("When deactivating an app client, then it is no longer active")
+    public void whenDeactivatingAppClient_thenItIsNoLongerActive() {
+        // Act
+        boolean deactivated = appClientRepositoryAdapter.deactivate("bynature-front");
+        testEntityManager.clear();
+
+        // Assert
+        assertThat(deactivated).isTrue();
+        assertThat(appClientRepositoryAdapter.findByAppClientId("bynature-front").getFirst().isActive()).isFalse();
+        assertThat(appClientRepositoryAdapter.deactivate("bynature-front")).isFalse();
+    }
 }
@@ -4,16 +4,22 @@ import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
 import com.bynature.domain.exception.ItemNotFoundException;
 import com.bynature.domain.exception.ItemValidationException;
 import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemCursor;
+import com.bynature.domain.model.ItemPage;
+import com.bynature.domain.model.ItemSearchCriteria;
+import com.bynature.domain.model.ItemSort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -111,6 +117,37 @@ public class ItemJpaAdapterTest extends AbstractJpaTest {
                 .hasMessageContaining("Item not found");
     }
     
+    @Test
+    @DisplayName("When getting several items by ID, then all of them are returned")
+    public void whenGettingItemsByIds_thenAllItemsAreReturned() {
+        // Arrange
+        Item item1 = new Item("Bulk Item 1", "Description 1", 10.0, "http://test.com/bulk1.jpg");
+        Item item2 = new Item("Bulk Item 2", "Description 2", 20.0, "http://test.com/bulk2.jpg");
+        itemJpaRepository.saveItem(item1);
+        itemJpaRepository.saveItem(item2);
+
+        // Act
+        List<Item> items = itemJpaRepository.getItems(List.of(item1.getId(), item2.getId(), item1.getId()));
+
+        // Assert
+        assertThat(items).extracting(Item::getId)
+                .containsExactlyInAnyOrder(item1.getId(), item2.getId());
+    }
+
+    @Test
+    @DisplayName("When one of the requested items does not exist, then ItemNotFoundException is thrown")
+    public void whenGettingItemsWithUnknownId_thenItemNotFoundExceptionIsThrown() {
+        // Arrange
+        Item item = new Item("Bulk Item", "Description", 10.0, "http://test.com/bulk.jpg");
+        itemJpaRepository.saveItem(item);
+        UUID nonExistentId = UUID.randomUUID();
+
+        // Act & Assert
+        assertThatThrownBy(() -> itemJpaRepository.getItems(List.of(item.getId(), nonExistentId)))
+                .isInstanceOf(ItemNotFoundException.class)
+                .hasMessageContaining("Item not found with id: " + nonExistentId);
+    }
+
     @Test
     @DisplayName("When getting a non-existent item, then ItemNotFoundException is thrown")
     public void whenGettingNonExistentItem_thenItemNotFoundExceptionIsThrown() {
@@ -122,7 +159,93 @@ public class ItemJpaAdapterTest extends AbstractJpaTest {
                 .isInstanceOf(ItemNotFoundException.class)
                 .hasMessageContaining("Item not found with id: " + nonExistentId);
     }
-    
+
+    @Test
+    @DisplayName("When saving a batch of items, then all of them can be retrieved")
+    public void whenSavingBatchOfItems_thenAllCanBeRetrieved() {
+        // Arrange
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new Item("Batch Item " + i, "Batch Description", 10.0 + i, "http://test.com/batch.jpg"));
+        }
+
+        // Act
+        itemJpaRepository.saveItems(items);
+        testEntityManager.clear();
+
+        // Assert
+        List<Item> found = itemJpaRepository.getItems(items.stream().map(Item::getId).toList());
+        assertThat(found).extracting(Item::getName)
+                .containsExactlyInAnyOrder("Batch Item 0", "Batch Item 1", "Batch Item 2", "Batch Item 3", "Batch Item 4");
+        assertThat(found).extracting(Item::getPrice).contains(14.0);
+    }
+
+    @Nested
+    @DisplayName("Item search tests")
+    class ItemSearchTests {
+
+        @ParameterizedTest
+        @EnumSource(ItemSort.class)
+        @DisplayName("When walking search pages, then every item is returned once in sort order")
+        public void whenWalkingPages_thenResultsMatchSingleQuery(ItemSort sort) {
+            for (int i = 0; i < 3; i++) {
+                // Same name and price to exercise the id tie-breaker
+                itemJpaRepository.saveItem(new Item("Twin Item", "Description", 42.0, "http://test.com/image.jpg"));
+            }
+            // Read rows back from the database, cursors carry the stored timestamp precision
+            testEntityManager.flush();
+            testEntityManager.clear();
+            ItemSearchCriteria criteria = new ItemSearchCriteria(null, null, null, sort);
+
+            List<Item> expected = itemJpaRepository.searchItems(criteria, null, 1000).items();
+            List<Item> walked = new ArrayList<>();
+            ItemCursor cursor = null;
+            do {
+                ItemPage page = itemJpaRepository.searchItems(criteria, cursor, 2);
+                assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+                walked.addAll(page.items());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertThat(walked).extracting(Item::getId)
+                    .containsExactlyElementsOf(expected.stream().map(Item::getId).toList());
+            assertThat(walked).hasSize(itemJpaRepository.getAllItems().size());
+        }
+
+        @Test
+        @DisplayName("When filtering by price range, then only items within the range are returned")
+        public void whenFilteringByPrice_thenOnlyMatchingItemsAreReturned() {
+            itemJpaRepository.saveItem(new Item("Cheap Item", "Description", 1.0, "http://test.com/image.jpg"));
+            itemJpaRepository.saveItem(new Item("Mid Item", "Description", 5000.0, "http://test.com/image.jpg"));
+            itemJpaRepository.saveItem(new Item("Expensive Item", "Description", 9000.0, "http://test.com/image.jpg"));
+
+            ItemPage page = itemJpaRepository.searchItems(
+                    new ItemSearchCriteria(4000.0, 8000.0, null, ItemSort.PRICE_DESC), null, 10);
+
+            assertThat(page.items()).extracting(Item::getName).containsExactly("Mid Item");
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("When filtering by name prefix, then matching is case-insensitive and wildcards are literal")
+        public void whenFilteringByNamePrefix_thenWildcardsAreEscaped() {
+            itemJpaRepository.saveItem(new Item("100% Cotton Bag", "Description", 10.0, "http://test.com/image.jpg"));
+            itemJpaRepository.saveItem(new Item("100X Cotton Bag", "Description", 10.0, "http://test.com/image.jpg"));
+
+            ItemPage page = itemJpaRepository.searchItems(
+                    new ItemSearchCriteria(null, null, "100% cotton", ItemSort.NAME), null, 10);
+
+            assertThat(page.items()).extracting(Item::getName).containsExactly("100% Cotton Bag");
+        }
+
+        @Test
+        @DisplayName("When the price range is inverted, then ItemValidationException is thrown")
+        public void whenPriceRangeIsInverted_thenValidationExceptionIsThrown() {
+            assertThatThrownBy(() -> new ItemSearchCriteria(10.0, 5.0, null, null))
+                    .isInstanceOf(ItemValidationException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Item validation tests")
     class ItemValidationTests {
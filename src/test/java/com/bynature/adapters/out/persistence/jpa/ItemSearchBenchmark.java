@@ -0,0 +1,121 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemSearchRepositoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Search latency over a 100k item catalog on PostgreSQL. Not part of the regular build, run it against a scratch
+ * database with:
+ * <pre>
+ * mvn test -Dtest=ItemSearchBenchmark -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/bynature_bench
+ * </pre>
+ * Seeded rows are committed so Postgres can vacuum and analyze them like a live catalog, and deleted afterwards.
+ */
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${benchmark.datasource.url}",
+        "spring.datasource.username=${benchmark.datasource.username:postgres}",
+        "spring.datasource.password=${benchmark.datasource.password:}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@ContextConfiguration(classes = ItemSearchRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItemSearchBenchmark extends AbstractJpaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSearchBenchmark.class);
+
+    private static final int ITEMS = 100_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final String IMAGE_URL = "http://benchmark.test/image.jpg";
+
+    private static final String[] ADJECTIVES = {"Organic", "Handmade", "Natural", "Recycled", "Vegan", "Artisan",
+            "Wild", "Raw", "Fair", "Local", "Classic", "Fresh"};
+    private static final String[] MATERIALS = {"Bamboo", "Cotton", "Linen", "Beeswax", "Cedar", "Clay", "Hemp",
+            "Wool", "Cork", "Jute", "Olive", "Lavender"};
+    private static final String[] PRODUCTS = {"Toothbrush", "Soap", "Candle", "Towel", "Honey", "Shampoo", "Basket",
+            "Mug", "Blanket", "Brush", "Tea", "Balm", "Scarf", "Bowl", "Wrap", "Bag"};
+
+    @Autowired
+    private ItemSearchRepositoryAdapter itemSearchRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchLatencyAt100kItems() {
+        seedItems();
+
+        for (String query : List.of("honey", "bamboo tooth", "organic lavender soap", "lavendr", "zzzz")) {
+            measure(query);
+        }
+    }
+
+    @AfterEach
+    void deleteSeededItems() {
+        jdbcTemplate.update("DELETE FROM items WHERE image_url = ?", IMAGE_URL);
+    }
+
+    private void seedItems() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < ITEMS; i++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + MATERIALS[random.nextInt(MATERIALS.length)] + " "
+                    + PRODUCTS[random.nextInt(PRODUCTS.length)] + " " + i;
+            String description = "A " + name.toLowerCase() + " made from "
+                    + MATERIALS[random.nextInt(MATERIALS.length)].toLowerCase() + " by small producers";
+            batch.add(new Object[]{UUID.randomUUID(), name, description, 1 + random.nextInt(20_000) / 100.0,
+                    IMAGE_URL, Timestamp.valueOf(now), Timestamp.valueOf(now)});
+            if (batch.size() == 1_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("VACUUM ANALYZE items");
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, price, image_url, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private void measure(String query) {
+        for (int i = 0; i < WARMUP; i++) {
+            itemSearchRepositoryAdapter.searchItems(query, 20);
+        }
+        long[] samples = new long[ITERATIONS];
+        int hits = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            hits = itemSearchRepositoryAdapter.searchItems(query, 20).size();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        log.info("q='{}' hits={} p50={}us p95={}us p99={}us", query, hits,
+                samples[ITERATIONS / 2] / 1_000, samples[ITERATIONS * 95 / 100] / 1_000,
+                samples[ITERATIONS * 99 / 100] / 1_000);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemSearchRepositoryAdapter;
+import com.bynature.domain.model.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ContextConfiguration(classes = {ItemRepositoryAdapter.class, ItemSearchRepositoryAdapter.class})
+@DisplayName("Item Search JPA Adapter Tests")
+public class ItemSearchJpaAdapterTest extends AbstractJpaTest {
+
+    @Autowired
+    private ItemRepositoryAdapter itemRepositoryAdapter;
+
+    @Autowired
+    private ItemSearchRepositoryAdapter itemSearchRepositoryAdapter;
+
+    @Test
+    @DisplayName("When searching a word of the name, then the item is found regardless of case")
+    public void whenSearchingNameWord_thenItemIsFound() {
+        List<Item> items = itemSearchRepositoryAdapter.searchItems("MOUSE", 10);
+
+        assertThat(items).extracting(Item::getName).contains("Wireless Mouse");
+    }
+
+    @Test
+    @DisplayName("When searching a word of the description, then the item is found")
+    public void whenSearchingDescriptionWord_thenItemIsFound() {
+        itemRepositoryAdapter.saveItem(new Item("Honey Jar", "Raw wildflower honey from local beekeepers", 12.0,
+                "http://test.com/image.jpg"));
+
+        List<Item> items = itemSearchRepositoryAdapter.searchItems("wildflower", 10);
+
+        assertThat(items).extracting(Item::getName).containsExactly("Honey Jar");
+    }
+
+    @Test
+    @DisplayName("When the limit is lower than the number of matches, then only that many items are returned")
+    public void whenLimitIsReached_thenResultsAreTruncated() {
+        for (int i = 0; i < 3; i++) {
+            itemRepositoryAdapter.saveItem(new Item("Bamboo Brush " + i, "Bamboo toothbrush", 4.0,
+                    "http://test.com/image.jpg"));
+        }
+
+        assertThat(itemSearchRepositoryAdapter.searchItems("bamboo", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("When nothing matches, then no item is returned")
+    public void whenNothingMatches_thenResultIsEmpty() {
+        assertThat(itemSearchRepositoryAdapter.searchItems("zzzzqqqq", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
+import com.bynature.adapters.out.persistence.jpa.adapter.ItemSearchRepositoryAdapter;
+import com.bynature.domain.model.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The full-text and trigram paths only run on PostgreSQL, H2 only exercises the LIKE fallback
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {ItemRepositoryAdapter.class, ItemSearchRepositoryAdapter.class})
+@DisplayName("Item Search PostgreSQL Tests")
+public class ItemSearchPostgresTest extends AbstractJpaTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    }
+
+    @Autowired
+    private ItemRepositoryAdapter itemRepositoryAdapter;
+
+    @Autowired
+    private ItemSearchRepositoryAdapter itemSearchRepositoryAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        itemRepositoryAdapter.saveItem(new Item("Wildflower Honey", "Raw honey from local beekeepers", 12.0,
+                "http://test.com/image.jpg"));
+        itemRepositoryAdapter.saveItem(new Item("Lavender Soap", "Cold process soap", 6.0,
+                "http://test.com/image.jpg"));
+        itemRepositoryAdapter.saveItem(new Item("Goat Milk Soap", "Scented with lavender oil", 5.0,
+                "http://test.com/image.jpg"));
+        // search_vector is generated by Postgres on insert
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("When searching the start of a word, then items with that word are found")
+    public void whenSearchingWordPrefix_thenItemIsFound() {
+        assertThat(itemSearchRepositoryAdapter.searchItems("hon", 10))
+                .extracting(Item::getName)
+                .containsExactly("Wildflower Honey");
+    }
+
+    @Test
+    @DisplayName("When a word matches names and descriptions, then name matches are ranked first")
+    public void whenWordMatchesNameAndDescription_thenNameMatchIsRankedFirst() {
+        List<Item> items = itemSearchRepositoryAdapter.searchItems("lavender", 10);
+
+        assertThat(items).extracting(Item::getName).containsExactly("Lavender Soap", "Goat Milk Soap");
+    }
+
+    @Test
+    @DisplayName("When a word is misspelled, then items with a similar name are found")
+    public void whenWordIsMisspelled_thenSimilarNameIsFound() {
+        assertThat(itemSearchRepositoryAdapter.searchItems("lavendr", 10))
+                .extracting(Item::getName)
+                .contains("Lavender Soap");
+    }
+}
@@ -3,22 +3,34 @@ package com.bynature.adapters.out.persistence.jpa;
 import com.bynature.adapters.out.persistence.jpa.adapter.CustomerRepositoryAdapter;
 import com.bynature.adapters.out.persistence.jpa.adapter.ItemRepositoryAdapter;
 import com.bynature.adapters.out.persistence.jpa.adapter.OrderRepositoryAdapter;
+import com.bynature.adapters.out.persistence.jpa.entity.ItemEntity;
+import com.bynature.adapters.out.persistence.jpa.entity.OrderEntity;
 import com.bynature.domain.exception.OrderNotFoundException;
 import com.bynature.domain.model.Customer;
 import com.bynature.domain.model.Email;
 import com.bynature.domain.model.Item;
 import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderCursor;
 import com.bynature.domain.model.OrderItem;
+import com.bynature.domain.model.OrderPage;
 import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
 import com.bynature.domain.model.PhoneNumber;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -29,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ContextConfiguration(classes = {OrderRepositoryAdapter.class, ItemRepositoryAdapter.class, CustomerRepositoryAdapter.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class OrderJpaAdapterTest extends AbstractJpaTest {
 
     @Autowired
@@ -85,6 +98,42 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
         assertThat(retrievedOrder.getOrderItems()).usingRecursiveComparison().isEqualTo(orderItems);
     }
 
+    @Test
+    public void whenSavingOrder_thenItemsAreNotLoadedAgain() {
+        Order order = new Order(customer, orderItems, 150.0,
+                "Mohamed", "MANSOURI", new PhoneNumber("+33634164387"), new Email("toto@gmail.com"),
+                "123", "Avenue de la redoute", "Asnières", "Haut de France",
+                "92600", "France");
+
+        testEntityManager.clear();
+        Statistics statistics = statistics();
+
+        orderRepositoryAdapter.saveOrder(order);
+        testEntityManager.flush();
+
+        // Items resolved when the order was built must only be referenced, never re-fetched
+        assertThat(statistics.getEntityStatistics(ItemEntity.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    public void whenSavingOrder_thenPersistedAggregateIsReturnedWithoutReads() {
+        Order order = new Order(customer, orderItems, 150.0,
+                "Mohamed", "MANSOURI", new PhoneNumber("+33634164387"), new Email("toto@gmail.com"),
+                "123", "Avenue de la redoute", "Asnières", "Haut de France",
+                "92600", "France");
+
+        testEntityManager.clear();
+        Statistics statistics = statistics();
+
+        Order savedOrder = orderRepositoryAdapter.saveOrder(order);
+        testEntityManager.flush();
+
+        assertThat(savedOrder).isSameAs(order);
+        // One insert for the order and one per line, nothing else
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + orderItems.size());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statistics.getEntityInsertCount());
+    }
+
     @Test
     public void whenUpdatingOrderStatus_thenStatusIsUpdated() {
         // Create and save an order
@@ -106,6 +155,166 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
         assertThat(updatedOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED);
     }
 
+    @Test
+    public void whenUpdatingOrderStatus_thenOneStatementIsRun() {
+        Order order = new Order(customer, orderItems, 150.0,
+                "Jane", "Smith", new PhoneNumber("+33698765432"), new Email("jane.smith@example.com"),
+                "45", "Rue Victor Hugo", "Lyon", "Auvergne-Rhône-Alpes",
+                "69002", "France");
+        orderRepositoryAdapter.saveOrder(order);
+        String paymentIntentId = "pi_" + UUID.randomUUID().toString().replace("-", "");
+
+        // No read of the order before the update
+        assertThat(countStatements(() -> orderRepositoryAdapter.updateOrderStatus(order.getId(),
+                OrderStatus.PAYMENT_INTEND_CREATED, paymentIntentId))).isEqualTo(1);
+        assertThat(countStatements(() -> orderRepositoryAdapter.updateOrderStatus(order.getId(),
+                OrderStatus.PAYMENT_CONFIRMED))).isEqualTo(1);
+    }
+
+    @Test
+    public void whenUpdatingStatusOfMissingOrder_thenOrderNotFoundExceptionIsThrown() {
+        UUID missingOrderId = UUID.randomUUID();
+
+        assertThrows(OrderNotFoundException.class,
+                () -> orderRepositoryAdapter.updateOrderStatus(missingOrderId, OrderStatus.PAYMENT_CONFIRMED));
+        assertThrows(OrderNotFoundException.class,
+                () -> orderRepositoryAdapter.updateOrderStatus(missingOrderId, OrderStatus.PAYMENT_INTEND_CREATED, "pi_1"));
+    }
+
+    @Test
+    public void whenUpdatingOrderStatusBackwards_thenStatusIsKept() {
+        Order order = new Order(customer, orderItems, 150.0,
+                "Jane", "Smith", new PhoneNumber("+33698765432"), new Email("jane.smith@example.com"),
+                "45", "Rue Victor Hugo", "Lyon", "Auvergne-Rhône-Alpes",
+                "69002", "France");
+        orderRepositoryAdapter.saveOrder(order);
+        assertThat(orderRepositoryAdapter.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_CONFIRMED))
+                .isEqualTo(OrderStatusUpdateResult.UPDATED);
+
+        // A payment_intent.succeeded delivered after charge.succeeded
+        OrderStatusUpdateResult result = orderRepositoryAdapter.updateOrderStatus(order.getId(),
+                OrderStatus.PAYMENT_PROCESSING);
+
+        clearAndFlush();
+
+        assertThat(result).isEqualTo(OrderStatusUpdateResult.REFUSED);
+        assertThat(orderRepositoryAdapter.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED);
+    }
+
+    @Test
+    public void whenUpdatingOrderStatusToCurrentStatus_thenOrderIsUnchanged() {
+        Order order = newOrder();
+        orderRepositoryAdapter.saveOrder(order);
+        orderRepositoryAdapter.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_FAILED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        LocalDateTime failedAt = testEntityManager.find(OrderEntity.class, order.getId()).getUpdatedAt();
+
+        // A charge.failed delivered after payment_intent.payment_failed
+        OrderStatusUpdateResult result = orderRepositoryAdapter.updateOrderStatus(order.getId(),
+                OrderStatus.PAYMENT_FAILED);
+
+        clearAndFlush();
+
+        assertThat(result).isEqualTo(OrderStatusUpdateResult.UNCHANGED);
+        assertThat(testEntityManager.find(OrderEntity.class, order.getId()).getUpdatedAt()).isEqualTo(failedAt);
+    }
+
+    @Test
+    public void whenUpdatingOrderStatuses_thenEachOrderGetsItsResult() {
+        Order paidOrder = newOrder();
+        Order unpaidOrder = newOrder();
+        orderRepositoryAdapter.saveOrder(paidOrder);
+        orderRepositoryAdapter.saveOrder(unpaidOrder);
+        orderRepositoryAdapter.updateOrderStatus(paidOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
+        UUID missingOrderId = UUID.randomUUID();
+
+        Map<UUID, OrderStatusUpdateResult> results = orderRepositoryAdapter.updateOrderStatuses(
+                List.of(paidOrder.getId(), unpaidOrder.getId(), missingOrderId, paidOrder.getId()),
+                OrderStatus.SHIPPED);
+
+        clearAndFlush();
+
+        assertThat(results).containsExactly(
+                Map.entry(paidOrder.getId(), OrderStatusUpdateResult.UPDATED),
+                Map.entry(unpaidOrder.getId(), OrderStatusUpdateResult.REFUSED),
+                Map.entry(missingOrderId, OrderStatusUpdateResult.NOT_FOUND));
+        assertThat(orderRepositoryAdapter.getOrder(paidOrder.getId()).getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(orderRepositoryAdapter.getOrder(unpaidOrder.getId()).getStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    public void whenUpdatingOrderStatusesToCurrentStatus_thenOrderIsUnchanged() {
+        Order shippedOrder = newOrder();
+        Order paidOrder = newOrder();
+        orderRepositoryAdapter.saveOrder(shippedOrder);
+        orderRepositoryAdapter.saveOrder(paidOrder);
+        orderRepositoryAdapter.updateOrderStatus(shippedOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
+        orderRepositoryAdapter.updateOrderStatus(shippedOrder.getId(), OrderStatus.SHIPPED);
+        orderRepositoryAdapter.updateOrderStatus(paidOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        LocalDateTime shippedAt = testEntityManager.find(OrderEntity.class, shippedOrder.getId()).getUpdatedAt();
+
+        // The same wave sent twice, with one more order the second time
+        Map<UUID, OrderStatusUpdateResult> results = orderRepositoryAdapter.updateOrderStatuses(
+                List.of(shippedOrder.getId(), paidOrder.getId()), OrderStatus.SHIPPED);
+
+        clearAndFlush();
+
+        assertThat(results).containsExactly(
+                Map.entry(shippedOrder.getId(), OrderStatusUpdateResult.UNCHANGED),
+                Map.entry(paidOrder.getId(), OrderStatusUpdateResult.UPDATED));
+        assertThat(testEntityManager.find(OrderEntity.class, shippedOrder.getId()).getUpdatedAt())
+                .isEqualTo(shippedAt);
+    }
+
+    @Test
+    public void whenUpdatingOrderStatusesOfWave_thenOrdersOfEveryChunkAreUpdated() {
+        Order firstOrder = newOrder();
+        Order lastOrder = newOrder();
+        orderRepositoryAdapter.saveOrder(firstOrder);
+        orderRepositoryAdapter.saveOrder(lastOrder);
+        // Three chunks of at most 1000 ids, with an order in the first and the last
+        List<UUID> orderIds = new ArrayList<>(List.of(firstOrder.getId()));
+        for (int i = 0; i < 2000; i++) {
+            orderIds.add(UUID.randomUUID());
+        }
+        orderIds.add(lastOrder.getId());
+
+        Map<UUID, OrderStatusUpdateResult> results = orderRepositoryAdapter.updateOrderStatuses(orderIds,
+                OrderStatus.CANCELLED);
+
+        clearAndFlush();
+
+        assertThat(results).hasSize(2002);
+        assertThat(results.values()).filteredOn(OrderStatusUpdateResult.UPDATED::equals).hasSize(2);
+        assertThat(results).containsEntry(lastOrder.getId(), OrderStatusUpdateResult.UPDATED);
+        assertThat(orderRepositoryAdapter.getOrder(firstOrder.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderRepositoryAdapter.getOrder(lastOrder.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    public void whenPaymentIntentArrivesLate_thenItIsRecordedAndStatusIsKept() {
+        Order order = new Order(customer, orderItems, 200.0,
+                "Robert", "Johnson", new PhoneNumber("+33611223344"), new Email("robert.j@example.com"),
+                "8", "Rue de Rivoli", "Paris", "Île-de-France",
+                "75004", "France");
+        orderRepositoryAdapter.saveOrder(order);
+        orderRepositoryAdapter.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_CONFIRMED);
+
+        String paymentIntentId = "pi_" + UUID.randomUUID().toString().replace("-", "");
+        OrderStatusUpdateResult result = orderRepositoryAdapter.updateOrderStatus(order.getId(),
+                OrderStatus.PAYMENT_INTEND_CREATED, paymentIntentId);
+
+        clearAndFlush();
+
+        Order updatedOrder = orderRepositoryAdapter.getOrder(order.getId());
+        assertThat(result).isEqualTo(OrderStatusUpdateResult.REFUSED);
+        assertThat(updatedOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_CONFIRMED);
+        assertThat(updatedOrder.getPaymentIntentId()).isEqualTo(paymentIntentId);
+    }
+
     @Test
     public void whenUpdatingOrderStatusWithPaymentIntent_thenBothFieldsAreUpdated() {
         // Create and save an order
@@ -156,6 +365,44 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
                 .contains(order1.getId(), order2.getId());
     }
 
+    @Test
+    public void whenFetchingOrders_thenStatementCountDoesNotDependOnOrdersOrLines() {
+        Order singleLineOrder = new Order(customer, List.of(new OrderItem(item1, 1)), 50.0,
+                customer.getFirstName(), customer.getLastName(),
+                customer.getPhoneNumber(), customer.getEmail(),
+                customer.getStreetNumber(), customer.getStreet(), customer.getCity(),
+                customer.getRegion(), customer.getPostalCode(), customer.getCountry());
+        orderRepositoryAdapter.saveOrder(singleLineOrder);
+
+        long statementsForOneOrder = countStatements(() -> orderRepositoryAdapter.getOrdersByCustomer(customer.getId()));
+        long statementsForOneOrderById = countStatements(() -> orderRepositoryAdapter.getOrder(singleLineOrder.getId()));
+
+        Order multiLineOrder = null;
+        for (int i = 0; i < 3; i++) {
+            multiLineOrder = new Order(customer, orderItems, 100.0 + i,
+                    customer.getFirstName(), customer.getLastName(),
+                    customer.getPhoneNumber(), customer.getEmail(),
+                    customer.getStreetNumber(), customer.getStreet(), customer.getCity(),
+                    customer.getRegion(), customer.getPostalCode(), customer.getCountry());
+            orderRepositoryAdapter.saveOrder(multiLineOrder);
+        }
+        UUID multiLineOrderId = multiLineOrder.getId();
+
+        long statementsForFourOrders = countStatements(() -> {
+            List<Order> orders = orderRepositoryAdapter.getOrdersByCustomer(customer.getId());
+            assertThat(orders).hasSize(4);
+            assertThat(orders).allSatisfy(order -> assertThat(order.getCustomer().getUser()).isNotNull());
+        });
+        long statementsForMultiLineOrderById = countStatements(() ->
+                assertThat(orderRepositoryAdapter.getOrder(multiLineOrderId).getOrderItems()).hasSize(2));
+
+        // Orders, lines, items, customer and user all come back in a single query
+        assertThat(statementsForOneOrder).isEqualTo(1);
+        assertThat(statementsForFourOrders).isEqualTo(statementsForOneOrder);
+        assertThat(statementsForOneOrderById).isEqualTo(1);
+        assertThat(statementsForMultiLineOrderById).isEqualTo(statementsForOneOrderById);
+    }
+
     @Test
     public void whenFindingOrdersByCustomerIdAsync_thenOrdersAreReturned() throws ExecutionException, InterruptedException, TimeoutException {
         // Create and save orders for the customer
@@ -207,6 +454,51 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
                 .isNotEqualTo(secondPage.getContent().get(0).getId());
     }
 
+    @Test
+    public void whenPagingOrdersByCursor_thenEveryOrderIsReturnedOnceNewestFirst() {
+        List<UUID> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order order = new Order(customer, orderItems, 100.0 + i * 50,
+                    customer.getFirstName(), customer.getLastName(),
+                    customer.getPhoneNumber(), customer.getEmail(),
+                    customer.getStreetNumber(), customer.getStreet(), customer.getCity(),
+                    customer.getRegion(), customer.getPostalCode(), customer.getCountry());
+            orderRepositoryAdapter.saveOrder(order);
+            savedIds.add(order.getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Order> walked = new ArrayList<>();
+        OrderCursor cursor = null;
+        int pages = 0;
+        do {
+            OrderCursor after = cursor;
+            OrderPage[] page = new OrderPage[1];
+            // One query for the page of ids, one for their graphs, however deep the page is
+            long statements = countStatements(() -> page[0] = orderRepositoryAdapter.getOrdersByCustomer(customer.getId(), after, 2));
+            assertThat(statements).isEqualTo(2);
+            assertThat(page[0].orders()).hasSizeLessThanOrEqualTo(2);
+            walked.addAll(page[0].orders());
+            cursor = page[0].nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).extracting(Order::getId).containsExactlyInAnyOrderElementsOf(savedIds);
+        assertThat(walked).isSortedAccordingTo(Comparator.comparing(Order::getCreatedAt).reversed()
+                .thenComparing(Order::getId));
+        assertThat(walked).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(2));
+    }
+
+    @Test
+    public void whenNoOrdersAfterCursor_thenEmptyPageIsReturned() {
+        OrderPage page = orderRepositoryAdapter.getOrdersByCustomer(UUID.randomUUID(), null, 10);
+
+        assertThat(page.orders()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
     @Test
     public void whenFindingOrdersByCustomerIdAndStatus_thenFilteredOrdersAreReturned() {
         // Create and save orders with different statuses
@@ -227,6 +519,7 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
 
         // Update their statuses
         orderRepositoryAdapter.updateOrderStatus(paidOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
+        orderRepositoryAdapter.updateOrderStatus(shippedOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
         orderRepositoryAdapter.updateOrderStatus(shippedOrder.getId(), OrderStatus.SHIPPED);
 
         clearAndFlush();
@@ -269,4 +562,29 @@ public class OrderJpaAdapterTest extends AbstractJpaTest {
         // Assert the list is empty
         assertThat(orders).isEmpty();
     }
+
+    private Order newOrder() {
+        return new Order(customer, orderItems, 150.0,
+                "Jane", "Smith", new PhoneNumber("+33698765432"), new Email("jane.smith@example.com"),
+                "45", "Rue Victor Hugo", "Lyon", "Auvergne-Rhône-Alpes",
+                "69002", "France");
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = testEntityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long countStatements(Runnable action) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = statistics();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -0,0 +1,60 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.OrderOutboxRepositoryAdapter;
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ContextConfiguration(classes = {OrderOutboxRepositoryAdapter.class})
+@DisplayName("OrderOutbox Repository Adapter Tests")
+public class OrderOutboxRepositoryAdapterTest extends AbstractJpaTest {
+
+    @Autowired
+    private OrderOutboxRepositoryAdapter orderOutboxRepositoryAdapter;
+
+    @Test
+    @DisplayName("Should hand events back oldest first, as many as asked for")
+    void shouldLockOldestEventsFirst() {
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepositoryAdapter.append(new OrderEvent(null, orderId, OrderEvent.Type.ORDER_CREATED,
+                OrderStatus.CREATED, now));
+        orderOutboxRepositoryAdapter.appendAll(List.of(
+                OrderEvent.statusChanged(orderId, OrderStatus.PAYMENT_CONFIRMED, now.plusSeconds(1)),
+                OrderEvent.statusChanged(orderId, OrderStatus.SHIPPED, now.plusSeconds(2))));
+
+        List<OrderEvent> locked = orderOutboxRepositoryAdapter.lockOldest(2);
+
+        assertThat(locked).extracting(OrderEvent::type)
+                .containsExactly(OrderEvent.Type.ORDER_CREATED, OrderEvent.Type.ORDER_STATUS_CHANGED);
+        assertThat(locked).extracting(OrderEvent::status)
+                .containsExactly(OrderStatus.CREATED, OrderStatus.PAYMENT_CONFIRMED);
+        assertThat(locked).extracting(OrderEvent::orderId).containsOnly(orderId);
+        assertThat(locked.getFirst().id()).isLessThan(locked.getLast().id());
+    }
+
+    @Test
+    @DisplayName("Should no longer hand back deleted events")
+    void shouldDeletePublishedEvents() {
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepositoryAdapter.appendAll(List.of(
+                OrderEvent.statusChanged(orderId, OrderStatus.PAYMENT_CONFIRMED, now),
+                OrderEvent.statusChanged(orderId, OrderStatus.SHIPPED, now)));
+        List<OrderEvent> published = orderOutboxRepositoryAdapter.lockOldest(1);
+
+        orderOutboxRepositoryAdapter.delete(published.stream().map(OrderEvent::id).toList());
+
+        assertThat(orderOutboxRepositoryAdapter.lockOldest(10)).extracting(OrderEvent::status)
+                .containsExactly(OrderStatus.SHIPPED);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.RateLimitBucketRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ContextConfiguration(classes = {RateLimitBucketRepositoryAdapter.class})
+@DisplayName("RateLimitBucket Repository Adapter Tests")
+public class RateLimitBucketRepositoryAdapterTest extends AbstractJpaTest {
+
+    // 3 requests per 3 seconds
+    private static final long INTERVAL = 1000;
+    private static final long TOLERANCE = 2000;
+
+    @Autowired
+    private RateLimitBucketRepositoryAdapter rateLimitBucketRepositoryAdapter;
+
+    @Test
+    @DisplayName("Should take tokens until the bucket is empty")
+    void shouldTakeTokensUntilEmpty() {
+        long now = 1_000_000;
+        assertThat(rateLimitBucketRepositoryAdapter.take("login:ip:10.0.0.1", now, INTERVAL, TOLERANCE)).isFalse();
+        assertThat(rateLimitBucketRepositoryAdapter.create("login:ip:10.0.0.1", now + INTERVAL)).isTrue();
+
+        assertThat(rateLimitBucketRepositoryAdapter.take("login:ip:10.0.0.1", now, INTERVAL, TOLERANCE)).isTrue();
+        assertThat(rateLimitBucketRepositoryAdapter.take("login:ip:10.0.0.1", now, INTERVAL, TOLERANCE)).isTrue();
+        assertThat(rateLimitBucketRepositoryAdapter.take("login:ip:10.0.0.1", now, INTERVAL, TOLERANCE)).isFalse();
+        assertThat(rateLimitBucketRepositoryAdapter.findTheoreticalArrival("login:ip:10.0.0.1"))
+                .contains(now + 3 * INTERVAL);
+
+        // One interval later one token is back
+        assertThat(rateLimitBucketRepositoryAdapter.take("login:ip:10.0.0.1", now + INTERVAL, INTERVAL, TOLERANCE))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should refuse to create a bucket twice")
+    void shouldRefuseDuplicateBucket() {
+        assertThat(rateLimitBucketRepositoryAdapter.create("login:ip:10.0.0.2", 1000)).isTrue();
+        assertThat(rateLimitBucketRepositoryAdapter.create("login:ip:10.0.0.2", 2000)).isFalse();
+        assertThat(rateLimitBucketRepositoryAdapter.findTheoreticalArrival("login:ip:10.0.0.2")).contains(1000L);
+    }
+
+    @Test
+    @DisplayName("Should delete only buckets that are full again")
+    void shouldDeleteFullBuckets() {
+        rateLimitBucketRepositoryAdapter.create("login:ip:10.0.0.3", 1000);
+        rateLimitBucketRepositoryAdapter.create("login:ip:10.0.0.4", 5000);
+
+        assertThat(rateLimitBucketRepositoryAdapter.deleteFullBuckets(2000)).isEqualTo(1);
+        assertThat(rateLimitBucketRepositoryAdapter.findTheoreticalArrival("login:ip:10.0.0.3")).isEmpty();
+        assertThat(rateLimitBucketRepositoryAdapter.findTheoreticalArrival("login:ip:10.0.0.4")).isPresent();
+    }
+}
@@ -0,0 +1,46 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookEventRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The adapter relies on ON CONFLICT, which H2 only understands in PostgreSQL mode
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {StripeWebhookEventRepositoryAdapter.class})
+@DisplayName("StripeWebhookEvent Repository Adapter Tests")
+public class StripeWebhookEventRepositoryAdapterTest extends AbstractJpaTest {
+
+    @Autowired
+    private StripeWebhookEventRepositoryAdapter stripeWebhookEventRepositoryAdapter;
+
+    @Test
+    @DisplayName("Should record an event once")
+    void shouldRecordEventOnce() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(stripeWebhookEventRepositoryAdapter.record("evt_once", "charge.succeeded", now)).isTrue();
+        assertThat(stripeWebhookEventRepositoryAdapter.record("evt_once", "charge.succeeded", now)).isFalse();
+        assertThat(stripeWebhookEventRepositoryAdapter.record("evt_other", "charge.succeeded", now)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should delete events processed before the cutoff")
+    void shouldDeleteOldEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        stripeWebhookEventRepositoryAdapter.record("evt_old", "charge.succeeded", now.minusDays(40));
+        stripeWebhookEventRepositoryAdapter.record("evt_new", "charge.succeeded", now);
+
+        assertThat(stripeWebhookEventRepositoryAdapter.deleteProcessedBefore(now.minusDays(30))).isEqualTo(1);
+        assertThat(stripeWebhookEventRepositoryAdapter.record("evt_old", "charge.succeeded", now)).isTrue();
+        assertThat(stripeWebhookEventRepositoryAdapter.record("evt_new", "charge.succeeded", now)).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.bynature.adapters.out.persistence.jpa;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookInboxRepositoryAdapter;
+import com.bynature.domain.model.StripeInboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The adapter relies on ON CONFLICT, which H2 only understands in PostgreSQL mode
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {StripeWebhookInboxRepositoryAdapter.class})
+@DisplayName("StripeWebhookInbox Repository Adapter Tests")
+public class StripeWebhookInboxRepositoryAdapterTest extends AbstractJpaTest {
+
+    private static final String PAYLOAD = "{\"id\": \"evt\"}";
+
+    @Autowired
+    private StripeWebhookInboxRepositoryAdapter stripeWebhookInboxRepositoryAdapter;
+
+    @Test
+    @DisplayName("Should store an event once")
+    void shouldEnqueueEventOnce() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(stripeWebhookInboxRepositoryAdapter.enqueue("evt_once", "charge.succeeded", PAYLOAD, now)).isTrue();
+        assertThat(stripeWebhookInboxRepositoryAdapter.enqueue("evt_once", "charge.succeeded", PAYLOAD, now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should lease a claimed event until its lease is over")
+    void shouldLeaseClaimedEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        stripeWebhookInboxRepositoryAdapter.enqueue("evt_first", "charge.succeeded", PAYLOAD, now.minusSeconds(2));
+        stripeWebhookInboxRepositoryAdapter.enqueue("evt_second", "charge.failed", PAYLOAD, now.minusSeconds(1));
+        stripeWebhookInboxRepositoryAdapter.enqueue("evt_later", "charge.failed", PAYLOAD, now.plusMinutes(1));
+
+        List<StripeInboxEvent> claimed = stripeWebhookInboxRepositoryAdapter.claimDue(now, now.plusMinutes(5), 10);
+
+        assertThat(claimed).extracting(StripeInboxEvent::eventId).containsExactly("evt_first", "evt_second");
+        assertThat(claimed).extracting(StripeInboxEvent::attempts).containsOnly(1);
+        assertThat(claimed.getFirst().payload()).isEqualTo(PAYLOAD);
+        assertThat(stripeWebhookInboxRepositoryAdapter.claimDue(now.plusMinutes(4), now.plusMinutes(9), 10))
+                .extracting(StripeInboxEvent::eventId).containsExactly("evt_later");
+        assertThat(stripeWebhookInboxRepositoryAdapter.claimDue(now.plusMinutes(6), now.plusMinutes(11), 10))
+                .extracting(StripeInboxEvent::eventId).containsExactly("evt_first", "evt_second");
+    }
+
+    @Test
+    @DisplayName("Should retry a rescheduled event and never a parked one")
+    void shouldRescheduleAndPark() {
+        LocalDateTime now = LocalDateTime.now();
+        stripeWebhookInboxRepositoryAdapter.enqueue("evt_retried", "charge.succeeded", PAYLOAD, now);
+        stripeWebhookInboxRepositoryAdapter.enqueue("evt_parked", "charge.succeeded", PAYLOAD, now);
+        stripeWebhookInboxRepositoryAdapter.claimDue(now.plusSeconds(1), now.plusMinutes(5), 10);
+
+        stripeWebhookInboxRepositoryAdapter.reschedule("evt_retried", now.plusSeconds(10), "database down");
+        stripeWebhookInboxRepositoryAdapter.park("evt_parked", "x".repeat(2000));
+
+        List<StripeInboxEvent> claimed = stripeWebhookInboxRepositoryAdapter.claimDue(now.plusHours(1),
+                now.plusHours(2), 10);
+        assertThat(claimed).extracting(StripeInboxEvent::eventId).containsExactly("evt_retried");
+        assertThat(claimed.getFirst().attempts()).isEqualTo(2);
+
+        assertThat(stripeWebhookInboxRepositoryAdapter.delete("evt_retried")).isTrue();
+        assertThat(stripeWebhookInboxRepositoryAdapter.delete("evt_retried")).isFalse();
+    }
+}
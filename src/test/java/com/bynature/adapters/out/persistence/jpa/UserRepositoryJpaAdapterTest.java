@@ -20,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -179,6 +180,44 @@ public class UserRepositoryJpaAdapterTest extends AbstractJpaTest {
             assertThat(updatedUser.getUpdatedAt()).isAfterOrEqualTo(user.getUpdatedAt());
         }
 
+        @Test
+        @DisplayName("When updating last login of several users, then only newer logins are written")
+        void whenUpdatingUsersLastLogin_thenOnlyNewerLoginsAreWritten() {
+            // Arrange
+            User first = userRepositoryAdapter.saveUser(new User(new Email("batch1@example.com"), TEST_PASSWORD, Role.CUSTOMER));
+            User second = userRepositoryAdapter.saveUser(new User(new Email("batch2@example.com"), TEST_PASSWORD, Role.CUSTOMER));
+            testEntityManager.flush();
+            LocalDateTime newer = first.getLastLoginAt().plusMinutes(5).withNano(0);
+            LocalDateTime older = second.getLastLoginAt().minusDays(1).withNano(0);
+
+            // Act
+            userRepositoryAdapter.updateUsersLastLogin(Map.of(first.getId(), newer, second.getId(), older,
+                    UUID.randomUUID(), newer));
+            testEntityManager.clear();
+
+            // Assert
+            assertThat(userRepositoryAdapter.getUser(first.getId()).getLastLoginAt()).isEqualTo(newer);
+            assertThat(userRepositoryAdapter.getUser(second.getId()).getLastLoginAt()).isNotEqualTo(older);
+        }
+
+        @Test
+        @DisplayName("When replacing a password hash, then only the hash read before is replaced")
+        void whenReplacingPasswordHash_thenOnlyTheHashReadBeforeIsReplaced() {
+            // Arrange
+            User user = userRepositoryAdapter.saveUser(new User(new Email("rehash@example.com"), TEST_PASSWORD, Role.CUSTOMER));
+            testEntityManager.flush();
+
+            // Act
+            boolean replaced = userRepositoryAdapter.replacePasswordHash(user.getId(), TEST_PASSWORD, "rehashed");
+            boolean replacedAgain = userRepositoryAdapter.replacePasswordHash(user.getId(), TEST_PASSWORD, "stale");
+            testEntityManager.clear();
+
+            // Assert
+            assertThat(replaced).isTrue();
+            assertThat(replacedAgain).isFalse();
+            assertThat(userRepositoryAdapter.getUser(user.getId()).getPassword()).isEqualTo("rehashed");
+        }
+
         @Test
         @DisplayName("When finding user by email, then correct user is returned")
         void whenFindingUserByEmail_thenCorrectUserIsReturned() {
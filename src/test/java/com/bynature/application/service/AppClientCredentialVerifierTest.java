@@ -0,0 +1,115 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.AppClientRepositoryAdapter;
+import com.bynature.config.security.AccountRateLimiter;
+import com.bynature.config.security.InMemoryRateLimitBackend;
+import com.bynature.config.security.RateLimitExceededException;
+import com.bynature.domain.model.AppClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AppClientCredentialVerifier Tests")
+class AppClientCredentialVerifierTest {
+
+    private static final String CLIENT_ID = "partner-app";
+    private static final String SECRET = "partner-secret";
+
+    private final AppClientRepositoryAdapter repository = mock(AppClientRepositoryAdapter.class);
+    private final AtomicInteger bcryptChecks = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AppClient client;
+    private AppClientCredentialVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        PasswordEncoder countingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                bcryptChecks.incrementAndGet();
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+
+        client = new AppClient(UUID.randomUUID(), CLIENT_ID, bcrypt.encode(SECRET), true, "http://localhost");
+        when(repository.findByAppClientId(CLIENT_ID)).thenAnswer(invocation -> List.of(client));
+        // Three secret checks per client and minute
+        AccountRateLimiter accountRateLimiter = new AccountRateLimiter(new InMemoryRateLimitBackend(1000), meterRegistry,
+                100, Duration.ofMinutes(1), 3, Duration.ofMinutes(1));
+        verifier = new AppClientCredentialVerifier(repository, countingEncoder, accountRateLimiter, meterRegistry,
+                100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should run BCrypt only for the first successful verification")
+    void shouldSkipBCryptOnceVerified() {
+        assertThat(verifier.verify(CLIENT_ID, SECRET)).contains(client);
+        assertThat(verifier.verify(CLIENT_ID, SECRET)).contains(client);
+        assertThat(verifier.verify(CLIENT_ID, SECRET)).contains(client);
+
+        assertThat(bcryptChecks).hasValue(1);
+        verify(repository, times(1)).findByAppClientId(CLIENT_ID);
+        assertThat(meterRegistry.get("auth.client.verification").tag("outcome", "cache").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.client.verification").tag("outcome", "password").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong secret even once the client is cached")
+    void shouldRejectWrongSecret() {
+        verifier.verify(CLIENT_ID, SECRET);
+
+        assertThat(verifier.verify(CLIENT_ID, "wrong-secret")).isEmpty();
+        assertThat(verifier.verify("unknown-client", SECRET)).isEmpty();
+        assertThat(meterRegistry.get("auth.client.verification").tag("outcome", "rejected").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should check the database again after the client is invalidated")
+    void shouldForgetInvalidatedClient() {
+        verifier.verify(CLIENT_ID, SECRET);
+
+        client.setActive(false);
+        verifier.invalidate(CLIENT_ID);
+
+        assertThat(verifier.verify(CLIENT_ID, SECRET)).isEmpty();
+        verify(repository, times(2)).findByAppClientId(CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should stop checking secrets of a client once its limit is used up, but still accept the verified one")
+    void shouldLimitSecretChecksPerClient() {
+        verifier.verify(CLIENT_ID, SECRET);
+        verifier.verify(CLIENT_ID, "wrong-secret-1");
+        verifier.verify(CLIENT_ID, "wrong-secret-2");
+
+        assertThatThrownBy(() -> verifier.verify(CLIENT_ID, "wrong-secret-3"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(verifier.verify(CLIENT_ID, SECRET)).contains(client);
+        assertThat(verifier.verify("other-client", SECRET)).isEmpty();
+
+        assertThat(bcryptChecks).hasValue(3);
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("limit", "client-token-account").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemSuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggestion latency and index footprint for a catalog of one million names. Not part of the regular build, run it
+ * after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=/dev/stdout)" \
+ *     org.openjdk.jmh.Main ItemSuggestionIndexBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ItemSuggestionIndexBenchmark {
+
+    private static final String[] ADJECTIVES = {"Organic", "Handmade", "Natural", "Recycled", "Vegan", "Artisan",
+            "Wild", "Raw", "Fair", "Local", "Classic", "Fresh"};
+    private static final String[] MATERIALS = {"Bamboo", "Cotton", "Linen", "Beeswax", "Cedar", "Clay", "Hemp",
+            "Wool", "Cork", "Jute", "Olive", "Lavender"};
+    private static final String[] PRODUCTS = {"Toothbrush", "Soap", "Candle", "Towel", "Honey", "Shampoo", "Basket",
+            "Mug", "Blanket", "Brush", "Tea", "Balm", "Scarf", "Bowl", "Wrap", "Bag"};
+
+    @Param({"1000000"})
+    private int names;
+
+    private ItemSuggestionIndex index;
+    private Item updated;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> items = new ArrayList<>(names);
+        for (int i = 0; i < names; i++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + MATERIALS[random.nextInt(MATERIALS.length)] + " "
+                    + PRODUCTS[random.nextInt(PRODUCTS.length)] + " " + i;
+            items.add(new Item(UUID.randomUUID(), name, "Description", 10.0, "http://test.com/image.jpg", now, now));
+        }
+
+        long start = System.nanoTime();
+        index = ItemSuggestionIndex.of(items);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Item first = items.getFirst();
+        updated = new Item(first.getId(), "Renamed " + first.getName(), first.getDescription(), first.getPrice(),
+                first.getImageUrl(), first.getCreatedAt(), now);
+
+        System.out.printf("%n%d names indexed in %d ms, footprint %.1f MB (%.1f bytes per name)%n",
+                index.size(), buildMillis, index.footprintBytes() / 1_048_576.0,
+                (double) index.footprintBytes() / index.size());
+    }
+
+    @Benchmark
+    public List<ItemSuggestion> suggest(Query query) {
+        return index.suggest(query.prefix, 10);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ItemSuggestionIndex update() {
+        return index.with(updated);
+    }
+
+    @State(Scope.Thread)
+    public static class Query {
+
+        @Param({"o", "organic bamboo", "organic bamboo toothbrush 4242", "zzz"})
+        private String prefix;
+    }
+}
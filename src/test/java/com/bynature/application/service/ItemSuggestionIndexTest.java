@@ -0,0 +1,91 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.model.Item;
+import com.bynature.domain.model.ItemSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ItemSuggestionIndex Tests")
+class ItemSuggestionIndexTest {
+
+    private final Item mouse = new Item("Wireless Mouse", "Mouse", 29.99, "http://test.com/mouse.jpg");
+    private final Item keyboard = new Item("Mechanical Keyboard", "Keyboard", 79.99, "http://test.com/keyboard.jpg");
+    private final Item hub = new Item("Wireless Hub", "Hub", 49.99, "http://test.com/hub.jpg");
+    private final Item creme = new Item("Crème Brûlée Candle", "Candle", 12.0, "http://test.com/candle.jpg");
+
+    @Test
+    @DisplayName("Should return names starting with the prefix in alphabetical order")
+    void shouldReturnMatchingNamesInOrder() {
+        ItemSuggestionIndex index = ItemSuggestionIndex.of(List.of(mouse, keyboard, hub, creme));
+
+        assertThat(index.suggest("wire", 10))
+                .extracting(ItemSuggestion::name)
+                .containsExactly("Wireless Hub", "Wireless Mouse");
+        assertThat(index.suggest("wire", 1)).extracting(ItemSuggestion::itemId).containsExactly(hub.getId());
+    }
+
+    @Test
+    @DisplayName("Should ignore case, accents and repeated whitespace")
+    void shouldNormalizePrefix() {
+        ItemSuggestionIndex index = ItemSuggestionIndex.of(List.of(mouse, creme));
+
+        assertThat(index.suggest("  CREME   bru", 10)).extracting(ItemSuggestion::name)
+                .containsExactly("Crème Brûlée Candle");
+        assertThat(index.suggest("wireless m", 10)).extracting(ItemSuggestion::name)
+                .containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a blank or unknown prefix")
+    void shouldReturnNothingForUnknownPrefix() {
+        ItemSuggestionIndex index = ItemSuggestionIndex.of(List.of(mouse, keyboard));
+
+        assertThat(index.suggest("zz", 10)).isEmpty();
+        assertThat(index.suggest("   ", 10)).isEmpty();
+        assertThat(ItemSuggestionIndex.EMPTY.suggest("w", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should add, rename and remove items without a rebuild")
+    void shouldUpdateIncrementally() {
+        ItemSuggestionIndex index = ItemSuggestionIndex.EMPTY.with(mouse).with(keyboard).with(hub);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.suggest("m", 10)).extracting(ItemSuggestion::name).containsExactly("Mechanical Keyboard");
+
+        Item renamed = new Item(mouse.getId(), "Ergonomic Mouse", mouse.getDescription(), mouse.getPrice(),
+                mouse.getImageUrl(), mouse.getCreatedAt(), LocalDateTime.now());
+        index = index.with(renamed);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.suggest("wireless", 10)).extracting(ItemSuggestion::name).containsExactly("Wireless Hub");
+        assertThat(index.suggest("ergo", 10)).extracting(ItemSuggestion::itemId).containsExactly(mouse.getId());
+
+        index = index.without(hub.getId()).without(keyboard.getId());
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("wireless", 10)).isEmpty();
+        assertThat(index.suggest("e", 10)).extracting(ItemSuggestion::name).containsExactly("Ergonomic Mouse");
+        assertThat(index.footprintBytes()).isLessThan(ItemSuggestionIndex.of(List.of(mouse, keyboard, hub)).footprintBytes());
+    }
+
+    @Test
+    @DisplayName("Incremental updates should give the same result as a full build")
+    void incrementalUpdatesShouldMatchFullBuild() {
+        List<Item> items = List.of(mouse, keyboard, hub, creme);
+        ItemSuggestionIndex incremental = ItemSuggestionIndex.EMPTY;
+        for (Item item : items) {
+            incremental = incremental.with(item);
+        }
+        ItemSuggestionIndex built = ItemSuggestionIndex.of(items);
+
+        for (String prefix : List.of("w", "m", "c", "wireless", "x")) {
+            assertThat(incremental.suggest(prefix, 10)).isEqualTo(built.suggest(prefix, 10));
+        }
+        assertThat(incremental.footprintBytes()).isEqualTo(built.footprintBytes());
+    }
+}
@@ -0,0 +1,97 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("LastLoginRecorder Tests")
+class LastLoginRecorderTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Map<UUID, LocalDateTime>> batches = new ArrayList<>();
+
+    private LastLoginRecorder newRecorder(int maxPending, int batchSize) {
+        doAnswer(invocation -> batches.add(new HashMap<>(invocation.getArgument(0))))
+                .when(userRepository).updateUsersLastLogin(any());
+        return new LastLoginRecorder(userRepository, meterRegistry, maxPending, batchSize);
+    }
+
+    @Test
+    @DisplayName("Should coalesce repeated logins of a user and write nothing until flushed")
+    void shouldCoalesceLoginsPerUser() {
+        LastLoginRecorder recorder = newRecorder(100, 100);
+        UUID userId = UUID.randomUUID();
+
+        recorder.recordLogin(userId);
+        recorder.recordLogin(userId);
+        recorder.recordLogin(UUID.randomUUID());
+        verifyNoInteractions(userRepository);
+
+        recorder.flush();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(2).containsKey(userId);
+        assertThat(meterRegistry.get("users.last-login.written").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should split a flush into batches")
+    void shouldWriteInBatches() {
+        LastLoginRecorder recorder = newRecorder(100, 2);
+        for (int i = 0; i < 5; i++) {
+            recorder.recordLogin(UUID.randomUUID());
+        }
+
+        recorder.flush();
+
+        assertThat(batches).extracting(Map::size).containsExactlyInAnyOrder(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should drop logins of new users when the buffer is full")
+    void shouldDropWhenFull() {
+        LastLoginRecorder recorder = newRecorder(2, 100);
+        UUID first = UUID.randomUUID();
+        recorder.recordLogin(first);
+        recorder.recordLogin(UUID.randomUUID());
+
+        recorder.recordLogin(UUID.randomUUID());
+        recorder.recordLogin(first);
+        recorder.flush();
+
+        assertThat(batches.getFirst()).hasSize(2).containsKey(first);
+        assertThat(meterRegistry.get("users.last-login.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep pending logins when a write fails and write them on the next flush")
+    void shouldRetryFailedBatches() {
+        LastLoginRecorder recorder = newRecorder(100, 100);
+        doThrow(new IllegalStateException("Database unavailable")).when(userRepository).updateUsersLastLogin(any());
+        recorder.recordLogin(UUID.randomUUID());
+
+        recorder.flush();
+        doAnswer(invocation -> batches.add(new HashMap<>(invocation.getArgument(0))))
+                .when(userRepository).updateUsersLastLogin(any());
+        recorder.flushOnShutdown();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(1);
+    }
+}
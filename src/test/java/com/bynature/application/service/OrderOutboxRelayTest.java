@@ -0,0 +1,85 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.events.OrderEventSink;
+import com.bynature.adapters.out.persistence.jpa.adapter.OrderOutboxRepositoryAdapter;
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderOutboxRelay Tests")
+class OrderOutboxRelayTest {
+
+    private final OrderOutboxRepositoryAdapter adapter = mock(OrderOutboxRepositoryAdapter.class);
+    private final OrderEventSink sink = mock(OrderEventSink.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderOutboxRelay relay = new OrderOutboxRelay(adapter, sink,
+            TransactionOperations.withoutTransaction(), meterRegistry, 2);
+    private final UUID orderId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should publish every batch, then delete it")
+    void shouldPublishThenDeleteEveryBatch() {
+        List<OrderEvent> first = List.of(event(1L), event(2L));
+        List<OrderEvent> second = List.of(event(3L));
+        when(adapter.lockOldest(2)).thenReturn(first, second);
+
+        relay.relay();
+
+        var order = inOrder(sink, adapter);
+        order.verify(sink).publish(first);
+        order.verify(adapter).delete(List.of(1L, 2L));
+        order.verify(sink).publish(second);
+        order.verify(adapter).delete(List.of(3L));
+        assertThat(meterRegistry.get("orders.outbox.published").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("orders.outbox.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep a batch the sink failed to publish, and stop there")
+    void shouldKeepBatchSinkFailedToPublish() {
+        List<OrderEvent> batch = List.of(event(1L), event(2L));
+        when(adapter.lockOldest(2)).thenReturn(batch);
+        doThrow(new IllegalStateException("sink down")).when(sink).publish(batch);
+
+        relay.relay();
+
+        verify(sink, times(1)).publish(any());
+        verify(adapter, never()).delete(any());
+        assertThat(meterRegistry.get("orders.outbox.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("orders.outbox.published").counter().count()).isZero();
+        assertThat(meterRegistry.get("orders.outbox.oldest.age").gauge().value()).isGreaterThanOrEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("Should not publish an empty outbox")
+    void shouldNotPublishEmptyOutbox() {
+        when(adapter.lockOldest(2)).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(sink, never()).publish(any());
+        assertThat(meterRegistry.get("orders.outbox.oldest.age").gauge().value()).isZero();
+    }
+
+    private OrderEvent event(long id) {
+        return new OrderEvent(id, orderId, OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.SHIPPED,
+                LocalDateTime.now().minusMinutes(1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bynature.application.service;
+
+import com.bynature.domain.model.Email;
+import com.bynature.domain.model.Order;
+import com.bynature.domain.model.OrderEvent;
+import com.bynature.domain.model.OrderItem;
+import com.bynature.domain.model.OrderStatus;
+import com.bynature.domain.model.OrderStatusUpdateResult;
+import com.bynature.domain.model.PhoneNumber;
+import com.bynature.domain.service.CustomerService;
+import com.bynature.domain.service.ItemService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("OrderSpringService Tests")
+@TestPropertySource(locations = "classpath:application-test.yml")
+class OrderSpringServiceTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479");
+    private static final UUID ITEM_ID = UUID.fromString("4ad102fd-bf4a-439f-8027-5c3cf527ffaf");
+
+    @Autowired
+    private OrderSpringService orderSpringService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should write an event with the order and with each status change")
+    void shouldWriteEventWithOrderAndStatusChanges() {
+        Order order = orderSpringService.createOrder(newOrder());
+        orderSpringService.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_INTEND_CREATED, "pi_1_secret");
+        orderSpringService.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_CONFIRMED);
+
+        assertThat(eventsOf(order.getId())).containsExactly(
+                new StoredEvent(OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED),
+                new StoredEvent(OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.PAYMENT_INTEND_CREATED),
+                new StoredEvent(OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.PAYMENT_CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("Should write no event when the status is refused or already set")
+    void shouldWriteNoEventForRefusedOrRepeatedStatus() {
+        Order order = orderSpringService.createOrder(newOrder());
+        orderSpringService.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_FAILED);
+
+        // charge.failed after payment_intent.payment_failed, then a status the order cannot move to
+        assertThat(orderSpringService.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_FAILED))
+                .isEqualTo(OrderStatusUpdateResult.UNCHANGED);
+        assertThat(orderSpringService.updateOrderStatus(order.getId(), OrderStatus.SHIPPED))
+                .isEqualTo(OrderStatusUpdateResult.REFUSED);
+
+        assertThat(eventsOf(order.getId())).containsExactly(
+                new StoredEvent(OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED),
+                new StoredEvent(OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.PAYMENT_FAILED));
+    }
+
+    @Test
+    @DisplayName("Should write an event for each order a bulk update changed, and only those")
+    void shouldWriteEventForEachOrderBulkUpdateChanged() {
+        Order paidOrder = orderSpringService.createOrder(newOrder());
+        Order unpaidOrder = orderSpringService.createOrder(newOrder());
+        orderSpringService.updateOrderStatus(paidOrder.getId(), OrderStatus.PAYMENT_CONFIRMED);
+
+        orderSpringService.updateOrderStatuses(List.of(paidOrder.getId(), unpaidOrder.getId()), OrderStatus.SHIPPED);
+        orderSpringService.updateOrderStatuses(List.of(paidOrder.getId(), unpaidOrder.getId()), OrderStatus.SHIPPED);
+
+        assertThat(eventsOf(paidOrder.getId())).containsExactly(
+                new StoredEvent(OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED),
+                new StoredEvent(OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.PAYMENT_CONFIRMED),
+                new StoredEvent(OrderEvent.Type.ORDER_STATUS_CHANGED, OrderStatus.SHIPPED));
+        assertThat(eventsOf(unpaidOrder.getId())).containsExactly(
+                new StoredEvent(OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED));
+    }
+
+    @Test
+    @DisplayName("Should leave no event behind a change that rolled back")
+    void shouldLeaveNoEventBehindRolledBackChange() {
+        Order order = orderSpringService.createOrder(newOrder());
+        Order rolledBackOrder = newOrder();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderSpringService.createOrder(rolledBackOrder);
+            orderSpringService.updateOrderStatus(order.getId(), OrderStatus.PAYMENT_CONFIRMED);
+            orderSpringService.updateOrderStatuses(List.of(order.getId()), OrderStatus.CANCELLED);
+            status.setRollbackOnly();
+        });
+
+        assertThat(orderSpringService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(eventsOf(order.getId())).containsExactly(
+                new StoredEvent(OrderEvent.Type.ORDER_CREATED, OrderStatus.CREATED));
+        assertThat(eventsOf(rolledBackOrder.getId())).isEmpty();
+    }
+
+    private Order newOrder() {
+        return new Order(customerService.getCustomer(CUSTOMER_ID),
+                List.of(new OrderItem(itemService.getItem(ITEM_ID), 1)), 25.0,
+                "Jane", "Smith", new PhoneNumber("+33698765432"), new Email("jane.smith@example.com"),
+                "45", "Rue Victor Hugo", "Lyon", "Auvergne-Rhône-Alpes", "69002", "France");
+    }
+
+    private List<StoredEvent> eventsOf(UUID orderId) {
+        return jdbcTemplate.query("SELECT event_type, status FROM order_outbox WHERE order_id = ? ORDER BY id",
+                (row, rowNum) -> new StoredEvent(OrderEvent.Type.valueOf(row.getString("event_type")),
+                        OrderStatus.valueOf(row.getString("status"))),
+                orderId);
+    }
+
+    private record StoredEvent(OrderEvent.Type type, OrderStatus status) {
+    }
+}
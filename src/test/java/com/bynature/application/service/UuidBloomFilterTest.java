@@ -0,0 +1,56 @@
+package com.bynature.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidBloomFilter Tests")
+class UuidBloomFilterTest {
+
+    @Test
+    @DisplayName("Should find every added id")
+    void shouldFindEveryAddedId() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.001);
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            filter.put(id);
+            added.add(id);
+        }
+
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate")
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // 100 expected, leave room for chance
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("Should find nothing when empty")
+    void shouldFindNothingWhenEmpty() {
+        UuidBloomFilter filter = new UuidBloomFilter(100, 0.001);
+
+        assertThat(filter.mightContain(UUID.randomUUID())).isFalse();
+        assertThat(filter.sizeInBytes()).isPositive();
+    }
+}
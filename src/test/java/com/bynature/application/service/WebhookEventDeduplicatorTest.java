@@ -0,0 +1,84 @@
+package com.bynature.application.service;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.StripeWebhookEventRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WebhookEventDeduplicator Tests")
+class WebhookEventDeduplicatorTest {
+
+    private final StripeWebhookEventRepositoryAdapter adapter = mock(StripeWebhookEventRepositoryAdapter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebhookEventDeduplicator deduplicator = new WebhookEventDeduplicator(adapter,
+            TransactionOperations.withoutTransaction(), meterRegistry, 100, Duration.ofDays(30));
+    private final AtomicInteger applied = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should apply an event once and answer redeliveries from memory")
+    void shouldApplyOnceAndAnswerRedeliveriesFromMemory() {
+        when(adapter.record(eq("evt_1"), eq("charge.succeeded"), any())).thenReturn(true);
+
+        Optional<String> first = deduplicator.processOnce("evt_1", "charge.succeeded", this::apply);
+        Optional<String> second = deduplicator.processOnce("evt_1", "charge.succeeded", this::apply);
+
+        assertThat(first).contains("applied");
+        assertThat(second).isEmpty();
+        assertThat(applied).hasValue(1);
+        verify(adapter, times(1)).record(eq("evt_1"), any(), any());
+        assertThat(count("processed", "none")).isEqualTo(1);
+        assertThat(count("duplicate", "cache")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip an event another node already recorded")
+    void shouldSkipEventRecordedElsewhere() {
+        when(adapter.record(eq("evt_2"), any(), any())).thenReturn(false);
+
+        assertThat(deduplicator.processOnce("evt_2", "charge.succeeded", this::apply)).isEmpty();
+        assertThat(deduplicator.processOnce("evt_2", "charge.succeeded", this::apply)).isEmpty();
+
+        assertThat(applied).hasValue(0);
+        verify(adapter, times(1)).record(eq("evt_2"), any(), any());
+        assertThat(count("duplicate", "database")).isEqualTo(1);
+        assertThat(count("duplicate", "cache")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not remember an event whose processing failed")
+    void shouldNotRememberFailedEvent() {
+        when(adapter.record(eq("evt_3"), any(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> deduplicator.processOnce("evt_3", "charge.succeeded", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        Optional<String> retry = deduplicator.processOnce("evt_3", "charge.succeeded", this::apply);
+
+        assertThat(retry).contains("applied");
+        verify(adapter, times(2)).record(eq("evt_3"), any(), any());
+    }
+
+    private String apply() {
+        applied.incrementAndGet();
+        return "applied";
+    }
+
+    private double count(String result, String source) {
+        return meterRegistry.get("stripe.webhook.deliveries").tag("result", result).tag("source", source)
+                .counter().count();
+    }
+}
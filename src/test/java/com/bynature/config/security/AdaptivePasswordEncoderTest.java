@@ -0,0 +1,52 @@
+package com.bynature.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptivePasswordEncoder Tests")
+class AdaptivePasswordEncoderTest {
+
+    private final AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5);
+
+    @Test
+    @DisplayName("Should prefix new hashes with their algorithm and cost")
+    void shouldPrefixNewHashes() {
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match hashes stored without a prefix as BCrypt")
+    void shouldMatchLegacyHashes() {
+        String legacy = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should upgrade hashes made at a lower cost, or more than one step higher")
+    void shouldUpgradeOtherCosts() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(6).encode("secret"))).isFalse();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(7).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding("not a hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should calibrate within the given bounds")
+    void shouldCalibrateWithinBounds() {
+        assertThat(AdaptivePasswordEncoder.calibrated(Duration.ZERO, 4, 6).getStrength()).isEqualTo(4);
+        assertThat(AdaptivePasswordEncoder.calibrated(Duration.ofHours(1), 4, 6).getStrength()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,115 @@
+package com.bynature.config.security;
+
+import com.bynature.domain.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Authorities built per login and per token conversion, with the previous per-request construction kept here as the
+ * baseline. Allocation is the point: run with the GC profiler and compare {@code gc.alloc.rate.norm} (bytes per call).
+ * Not part of the regular build, run it after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=/dev/stdout)" \
+ *     org.openjdk.jmh.Main AuthoritiesBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    private AuthorityRegistry registry;
+    private OAuth2JwtRoleConverter converter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        registry = new AuthorityRegistry(Map.of(
+                Role.CUSTOMER, List.of("customer:read", "customer:write", "item:read"),
+                Role.ADMIN, List.of("admin:read", "admin:write", "customer:read", "customer:write", "item:read",
+                        "item:write")));
+        converter = new OAuth2JwtRoleConverter(registry);
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("scope", List.of("customer:read", "customer:write", "item:read"))
+                .claim("roles", List.of("CUSTOMER"))
+                .build();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> loginAuthoritiesBefore() {
+        return Stream.concat(
+                Stream.of(new SimpleGrantedAuthority("ROLE_" + Role.ADMIN.name())),
+                roleScopesBefore(Role.ADMIN).stream().map(scope -> new SimpleGrantedAuthority("SCOPE_" + scope))
+        ).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> loginAuthoritiesAfter() {
+        return registry.authoritiesOf(Role.ADMIN);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> tokenAuthoritiesBefore() {
+        List<String> scopes = claimBefore(jwt, "scope");
+        List<GrantedAuthority> authorities = new ArrayList<>(scopes.stream()
+                .map(scope -> new SimpleGrantedAuthority("SCOPE_" + scope))
+                .toList());
+        List<String> roles = claimBefore(jwt, "roles");
+        authorities.addAll(roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList());
+        return authorities;
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> tokenAuthoritiesAfter() {
+        return converter.convert(jwt);
+    }
+
+    private static List<String> roleScopesBefore(Role role) {
+        switch (role) {
+            case ADMIN:
+                return List.of("admin:read", "admin:write", "customer:read", "customer:write", "item:read", "item:write");
+            case CUSTOMER:
+                return List.of("customer:read", "customer:write", "item:read");
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> claimBefore(Jwt jwt, String claimName) {
+        Object claim = jwt.getClaim(claimName);
+        if (claim instanceof String) {
+            return List.of(((String) claim).split(" "));
+        }
+        if (claim instanceof List) {
+            return (List<String>) claim;
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,55 @@
+package com.bynature.config.security;
+
+import com.bynature.domain.model.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthorityRegistry Tests")
+class AuthorityRegistryTest {
+
+    private final AuthorityRegistry registry = new AuthorityRegistry(Map.of(
+            Role.CUSTOMER, List.of("customer:read", "item:read"),
+            Role.ADMIN, List.of("admin:read", "item:read")));
+
+    @Test
+    @DisplayName("Should give each role its role authority then its scopes, immutable")
+    void shouldBuildRoleAuthorities() {
+        assertThat(registry.authoritiesOf(Role.CUSTOMER)).extracting("authority")
+                .containsExactly("ROLE_CUSTOMER", "SCOPE_customer:read", "SCOPE_item:read");
+        assertThat(registry.authoritiesOf(Role.VENDOR)).extracting("authority").containsExactly("ROLE_VENDOR");
+        assertThatThrownBy(() -> registry.authoritiesOf(Role.ADMIN).add(registry.scope("x")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should share one instance per scope and role")
+    void shouldShareInstances() {
+        assertThat(registry.authoritiesOf(Role.ADMIN).get(2)).isSameAs(registry.authoritiesOf(Role.CUSTOMER).get(2));
+        assertThat(registry.scope("item:read")).isSameAs(registry.authoritiesOf(Role.CUSTOMER).get(2));
+        assertThat(registry.role("ADMIN")).isSameAs(registry.authoritiesOf(Role.ADMIN).getFirst());
+        assertThat(registry.scope("unknown:scope").getAuthority()).isEqualTo("SCOPE_unknown:scope");
+    }
+
+    @Test
+    @DisplayName("Should convert token scopes and roles to the shared authorities")
+    void shouldConvertTokenClaims() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("scope", "customer:read item:read")
+                .claim("roles", List.of("CUSTOMER"))
+                .build();
+
+        var authorities = List.copyOf(new OAuth2JwtRoleConverter(registry).convert(jwt));
+
+        assertThat(authorities).extracting("authority")
+                .containsExactly("SCOPE_customer:read", "SCOPE_item:read", "ROLE_CUSTOMER");
+        assertThat(authorities.getFirst()).isSameAs(registry.scope("customer:read"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.bynature.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should verify a token once and return the same Jwt afterwards")
+    void shouldVerifyTokenOnce() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate(Instant.now().plusSeconds(900)), meterRegistry, 100);
+
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "security.jwt").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should verify again once the token has expired")
+    void shouldNotServeExpiredTokens() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate(Instant.now().minusSeconds(1)), meterRegistry, 100);
+
+        decoder.decode("expired");
+        decoder.decode("expired");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not remember rejected tokens")
+    void shouldNotCacheRejectedTokens() {
+        JwtDecoder rejecting = token -> {
+            verifications.incrementAndGet();
+            throw new BadJwtException("Invalid signature");
+        };
+        CachingJwtDecoder decoder = new CachingJwtDecoder(rejecting, meterRegistry, 100);
+
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should compute the authorities of a token once")
+    void shouldComputeAuthoritiesOnce() {
+        AtomicInteger conversions = new AtomicInteger();
+        OAuth2JwtRoleConverter roleConverter = new OAuth2JwtRoleConverter(new AuthorityRegistry(Map.of()));
+        CachingJwtAuthoritiesConverter converter = new CachingJwtAuthoritiesConverter(jwt -> {
+            conversions.incrementAndGet();
+            return roleConverter.convert(jwt);
+        }, meterRegistry, 100);
+        Jwt jwt = delegate(Instant.now().plusSeconds(900)).decode("token");
+
+        Collection<GrantedAuthority> first = converter.convert(jwt);
+        Collection<GrantedAuthority> second = converter.convert(jwt);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(GrantedAuthority::getAuthority).containsExactly("SCOPE_api", "ROLE_USER");
+        assertThat(conversions).hasValue(1);
+    }
+
+    private JwtDecoder delegate(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("client")
+                    .claim("scope", "api")
+                    .claim("roles", List.of("USER"))
+                    .issuedAt(expiresAt.minusSeconds(900))
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.bynature.config.security;
+
+import com.bynature.adapters.out.persistence.jpa.adapter.JwkKeyRepositoryAdapter;
+import com.bynature.domain.model.SigningKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwkKeyStore Tests")
+class JwkKeyStoreTest {
+
+    private static final String ENCRYPTION_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String OTHER_ENCRYPTION_KEY = Base64.getEncoder().encodeToString("x".repeat(32).getBytes());
+
+    // Stands in for the jwk_keys table shared by all nodes
+    private final List<SigningKey> table = new ArrayList<>();
+    private final JwkKeyRepositoryAdapter repository = mock(JwkKeyRepositoryAdapter.class);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAll()).thenAnswer(invocation -> table.stream()
+                .sorted(Comparator.comparing(SigningKey::createdAt).reversed())
+                .toList());
+        doAnswer(invocation -> table.add(invocation.getArgument(0))).when(repository).save(any());
+    }
+
+    @Test
+    @DisplayName("Should create a key on first start and reuse it after a restart or on another node")
+    void shouldShareKeysBetweenNodes() {
+        JwkKeyStore first = newStore(Duration.ofMinutes(5));
+        String token = sign(first);
+
+        JwkKeyStore second = newStore(Duration.ofMinutes(5));
+
+        assertThat(table).hasSize(1);
+        assertThat(decoder(second).decode(token).getSubject()).isEqualTo("client");
+    }
+
+    @Test
+    @DisplayName("Should keep signing with the published key until a new one has had time to reach every node")
+    void shouldDelaySigningWithNewKey() {
+        JwkKeyStore store = newStore(Duration.ofMinutes(5));
+        table.replaceAll(key -> new SigningKey(key.keyId(), key.jwk(), LocalDateTime.now().minusDays(31)));
+        String oldKeyId = table.getFirst().keyId();
+
+        store.rotate();
+
+        assertThat(table).hasSize(2);
+        assertThat(keyIdOf(sign(store))).isEqualTo(oldKeyId);
+        assertThat(store.publicKeys().getKeys()).hasSize(2).noneMatch(JWK::isPrivate);
+    }
+
+    @Test
+    @DisplayName("Should reload when a token is signed with a key created by another node")
+    void shouldReloadOnUnknownKeyId() {
+        JwkKeyStore verifying = newStore(Duration.ZERO);
+        JwkKeyStore rotating = newStore(Duration.ZERO);
+        rotating.rotate();
+
+        String token = sign(rotating);
+
+        assertThat(keyIdOf(token)).isEqualTo(table.getLast().keyId());
+        assertThat(decoder(verifying).decode(token).getSubject()).isEqualTo("client");
+    }
+
+    @Test
+    @DisplayName("Should store keys encrypted, readable only with the key-encryption key")
+    void shouldStoreKeysEncrypted() {
+        newStore(Duration.ofMinutes(5));
+        SigningKey stored = table.getFirst();
+
+        assertThat(stored.jwk()).doesNotContain("\"d\"").doesNotStartWith("{");
+        assertThatThrownBy(() -> new JwkKeyStore(repository, Duration.ofMinutes(5), Duration.ofDays(30),
+                Duration.ofDays(8), OTHER_ENCRYPTION_KEY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(stored.keyId());
+    }
+
+    private JwkKeyStore newStore(Duration refreshInterval) {
+        return new JwkKeyStore(repository, refreshInterval, Duration.ofDays(30), Duration.ofDays(8), ENCRYPTION_KEY);
+    }
+
+    private static String sign(JwkKeyStore store) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("client")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        return new NimbusJwtEncoder(store.signingKeySource())
+                .encode(JwtEncoderParameters.from(claims))
+                .getTokenValue();
+    }
+
+    private static JwtDecoder decoder(JwkKeyStore store) {
+        return OAuth2AuthorizationServerConfiguration.jwtDecoder(store);
+    }
+
+    private static String keyIdOf(String token) {
+        try {
+            return SignedJWT.parse(token).getHeader().getKeyID();
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
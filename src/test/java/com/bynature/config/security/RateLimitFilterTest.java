@@ -0,0 +1,113 @@
+package com.bynature.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new InMemoryRateLimitBackend(1000, nanos::get),
+            List.of(
+                    new RateLimitFilter.Rule(HttpMethod.POST, "/auth/login",
+                            new RateLimit("login", 3, Duration.ofMinutes(1)), RateLimitFilter.KeyType.CLIENT_IP),
+                    new RateLimitFilter.Rule(HttpMethod.POST, "/create-payment-intent",
+                            new RateLimit("payment-intent", 1, Duration.ofMinutes(1)), RateLimitFilter.KeyType.PRINCIPAL)),
+            new ObjectMapper().findAndRegisterModules(),
+            meterRegistry);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity, then refuse with Retry-After")
+    void shouldRefuseOverCapacity() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(send("POST", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse refused = send("POST", "/auth/login", "10.0.0.1");
+
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader("Retry-After")).isEqualTo("20");
+        assertThat(refused.getContentType()).isEqualTo("application/problem+json");
+        assertThat(refused.getContentAsString()).contains("Rate limit exceeded");
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("limit", "login").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give a token back every period / capacity")
+    void shouldRefillOverTime() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("POST", "/auth/login", "10.0.0.1");
+        }
+        assertThat(send("POST", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        assertThat(send("POST", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per address")
+    void shouldLimitPerAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("POST", "/auth/login", "10.0.0.1");
+        }
+
+        assertThat(send("POST", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(send("POST", "/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should limit authenticated routes per principal, whatever the address")
+    void shouldLimitPerPrincipal() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("bynature-front", null, List.of()));
+
+        assertThat(send("POST", "/create-payment-intent", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/create-payment-intent", "10.0.0.2").getStatus()).isEqualTo(429);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("other-client", null, List.of()));
+        assertThat(send("POST", "/create-payment-intent", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should not limit other routes or methods")
+    void shouldIgnoreOtherRoutes() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("POST", "/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(send("GET", "/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
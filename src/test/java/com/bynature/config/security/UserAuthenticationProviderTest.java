@@ -0,0 +1,93 @@
+package com.bynature.config.security;
+
+import com.bynature.application.service.LastLoginRecorder;
+import com.bynature.domain.model.Email;
+import com.bynature.domain.model.Role;
+import com.bynature.domain.model.User;
+import com.bynature.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserAuthenticationProvider Tests")
+class UserAuthenticationProviderTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AdaptivePasswordEncoder passwordEncoder = new AdaptivePasswordEncoder(5);
+    // Three logins per account and minute
+    private final AccountRateLimiter accountRateLimiter = new AccountRateLimiter(new InMemoryRateLimitBackend(1000),
+            new SimpleMeterRegistry(), 3, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+    private final UserAuthenticationProvider provider = new UserAuthenticationProvider(userRepository, passwordEncoder,
+            mock(LastLoginRecorder.class), new AuthorityRegistry(Map.of(Role.CUSTOMER, List.of("customer:read"))),
+            accountRateLimiter);
+
+    @Test
+    @DisplayName("Should rehash a password made at another cost on successful login")
+    void shouldRehashOnLogin() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("Str0ngP@ssword123!");
+        User user = userWithHash(oldHash);
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("rehash@example.com", "Str0ngP@ssword123!"));
+
+        verify(userRepository).replacePasswordHash(eq(user.getId()), eq(oldHash),
+                argThat(newHash -> newHash.startsWith("{bcrypt}$2a$05$")
+                        && passwordEncoder.matches("Str0ngP@ssword123!", newHash)));
+    }
+
+    @Test
+    @DisplayName("Should leave a password made at the current cost alone")
+    void shouldNotRehashCurrentCost() {
+        userWithHash(passwordEncoder.encode("Str0ngP@ssword123!"));
+
+        var authentication = provider.authenticate(
+                new UsernamePasswordAuthenticationToken("rehash@example.com", "Str0ngP@ssword123!"));
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getAuthorities()).extracting("authority")
+                .containsExactly("ROLE_CUSTOMER", "SCOPE_customer:read");
+        verify(userRepository, never()).replacePasswordHash(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should refuse logins to an account that used up its attempts before checking the password")
+    void shouldLimitLoginsPerAccount() {
+        userWithHash(passwordEncoder.encode("Str0ngP@ssword123!"));
+        for (String email : List.of("rehash@example.com", "Rehash@Example.com", " rehash@example.com")) {
+            assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken(email, "guess")))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+
+        // However the email is typed, and even with the right password
+        assertThatThrownBy(() -> provider.authenticate(
+                new UsernamePasswordAuthenticationToken("REHASH@example.com", "Str0ngP@ssword123!")))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(userRepository, times(1)).getUserByEmail("rehash@example.com");
+        verify(userRepository, never()).getUserByEmail("REHASH@example.com");
+    }
+
+    private User userWithHash(String hash) {
+        User user = new User(new Email("rehash@example.com"), hash, Role.CUSTOMER);
+        when(userRepository.getUserByEmail("rehash@example.com")).thenReturn(Optional.of(user));
+        return user;
+    }
+}
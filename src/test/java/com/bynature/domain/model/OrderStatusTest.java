@@ -0,0 +1,38 @@
+package com.bynature.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Order Status Tests")
+class OrderStatusTest {
+
+    @ParameterizedTest
+    @EnumSource(OrderStatus.class)
+    @DisplayName("Should not count the current status as a predecessor")
+    void shouldNotFollowCurrentStatus(OrderStatus status) {
+        assertThat(status.canFollow(status)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move payments forward whatever order the events arrive in")
+    void shouldMovePaymentsForward() {
+        assertThat(OrderStatus.PAYMENT_CONFIRMED.canFollow(OrderStatus.PAYMENT_INTEND_CREATED)).isTrue();
+        assertThat(OrderStatus.PAYMENT_CONFIRMED.canFollow(OrderStatus.PAYMENT_FAILED)).isTrue();
+        assertThat(OrderStatus.PAYMENT_PROCESSING.canFollow(OrderStatus.PAYMENT_CONFIRMED)).isFalse();
+        assertThat(OrderStatus.PAYMENT_INTEND_CREATED.canFollow(OrderStatus.PAYMENT_PROCESSING)).isFalse();
+        assertThat(OrderStatus.PAYMENT_FAILED.canFollow(OrderStatus.PAYMENT_CONFIRMED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only ship a paid order")
+    void shouldOnlyShipPaidOrder() {
+        assertThat(OrderStatus.SHIPPED.predecessors())
+                .containsExactly(OrderStatus.PAYMENT_CONFIRMED);
+        assertThat(OrderStatus.CANCELLED.canFollow(OrderStatus.SHIPPED)).isFalse();
+        assertThat(OrderStatus.CREATED.canFollow(OrderStatus.CANCELLED)).isFalse();
+    }
+}